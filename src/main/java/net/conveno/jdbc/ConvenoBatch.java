@@ -0,0 +1,20 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Execute the @ConvenoQuery once for each element of the
+ * Iterable parameter, with JDBC batches of the given size.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoBatch {
+
+    /**
+     * Rows count of the one `executeBatch` call.
+     */
+    int size() default 1000;
+}
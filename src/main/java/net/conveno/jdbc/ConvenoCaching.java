@@ -5,9 +5,44 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Caching of the method statement and, when the time to live is set,
+ * of the @ConvenoQuery responses by the bound parameter values.
+ * <p>
+ * Cached responses are read-only snapshots shared by all callers.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ConvenoCaching {
 
-    CacheScope scope();
+    CacheScope scope() default CacheScope.SINGLETON;
+
+    /**
+     * Time to live of the cached response in milliseconds,
+     * or 0 to cache only the statement.
+     */
+    long ttlMillis() default 0;
+
+    /**
+     * Maximum count of the cached responses of the method.
+     */
+    int maxEntries() default 1024;
+
+    /**
+     * Maximum estimated heap size of the cached responses in bytes, or 0.
+     */
+    long maxBytes() default 0;
+
+    /**
+     * Maximum size of the cached responses, which are encoded to the
+     * direct buffers out of the heap, in bytes, or 0 to cache the
+     * responses on the heap. Lines of the off-heap response are
+     * decoded on each access.
+     */
+    long offHeapBytes() default 0;
+
+    /**
+     * Deflate the encoded lines of the off-heap responses.
+     */
+    boolean compress() default false;
 }
@@ -0,0 +1,32 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cache of the @ConvenoTable lines by the primary key.
+ * <p>
+ * The `select * from ${table} where id = ${id}` queries are read from the cache, and
+ * the inserts, updates and deletes of the line by the repository write it through.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoEntityCache {
+
+    /**
+     * Primary key column of the table.
+     */
+    String idColumn() default "id";
+
+    /**
+     * Maximum count of the cached lines.
+     */
+    int maxEntries() default 10_000;
+
+    /**
+     * Time to live of the cached line in milliseconds, or 0 to keep it until the eviction.
+     */
+    long ttlMillis() default 0;
+}
@@ -0,0 +1,32 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executor settings of the repository asynchronous calls,
+ * which override the router settings.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoExecutor {
+
+    /**
+     * Core threads count, 0 to match the connection pool size.
+     */
+    int coreThreads() default 0;
+
+    /**
+     * Max threads count, 0 to match the connection pool size.
+     */
+    int maxThreads() default 0;
+
+    /**
+     * Pending calls count, 0 to run the calls only on the free threads.
+     */
+    int queueCapacity() default 1024;
+
+    RejectionPolicy rejection() default RejectionPolicy.CALLER_RUNS;
+}
@@ -0,0 +1,17 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rows count, which the cursor of the streaming
+ * @ConvenoQuery method fetches from the database at once.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoFetchSize {
+
+    int value();
+}
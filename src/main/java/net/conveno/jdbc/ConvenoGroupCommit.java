@@ -0,0 +1,32 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesce the calls of the @ConvenoAsynchronous(onlySubmit = true) method
+ * and write them by the one batched statement under the single commit.
+ * <p>
+ * Pending calls are flushed when their count reaches the size, when the
+ * first of them waits for the deadline, or on the router flush and shutdown.
+ * <p>
+ * Calls of the failed group commit are replayed one by one, when it is rolled back,
+ * or are failed all, when the rollback fails too. Method returning
+ * CompletableFuture&lt;Void&gt; is completed, when its call is written or failed.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoGroupCommit {
+
+    /**
+     * Pending calls count, which triggers the flush.
+     */
+    int size() default 256;
+
+    /**
+     * Max waiting time of the pending call in milliseconds.
+     */
+    long deadlineMillis() default 5;
+}
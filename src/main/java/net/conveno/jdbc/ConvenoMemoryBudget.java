@@ -0,0 +1,17 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Heap size in bytes, which the response of the @ConvenoQuery method may take.
+ * Lines over the budget are spilled to a temporary file and read back on access.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoMemoryBudget {
+
+    long value();
+}
@@ -14,4 +14,10 @@ public @interface ConvenoRepository {
     String username();
 
     String password();
+
+    /**
+     * Connection pool size, which is also the default
+     * parallelism of the repository asynchronous calls.
+     */
+    int poolSize() default 10;
 }
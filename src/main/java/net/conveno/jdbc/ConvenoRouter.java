@@ -5,20 +5,23 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.executor.ConvenoExecutorService;
+import net.conveno.jdbc.executor.ConvenoExecutorSettings;
+import net.conveno.jdbc.processor.ConvenoRepositoryProcessor;
+import net.conveno.jdbc.proxied.CglibRepositoryInterceptor;
+import net.conveno.jdbc.proxied.ProxiedCacheRegistry;
 import net.conveno.jdbc.proxied.ProxiedConnection;
+import net.conveno.jdbc.proxied.ProxiedEntityCache;
 import net.conveno.jdbc.proxied.ProxiedRepository;
-import net.conveno.jdbc.util.SneakyCatcher;
 import net.conveno.jdbc.util.StringParser;
-import net.sf.cglib.proxy.Enhancer;
 import sun.misc.Unsafe;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Field;
-import java.lang.reflect.Proxy;
-import java.sql.Connection;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
 
 @FieldDefaults(makeFinal = true)
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -38,24 +41,65 @@ public final class ConvenoRouter {
     }
 
     public static ConvenoRouter create() {
+        return create(ConvenoExecutorSettings.DEFAULT);
+    }
+
+    /**
+     * Create a router with the default executor settings of
+     * the repositories, which is not marked by @ConvenoExecutor.
+     *
+     * @param executorSettings - Default executor settings.
+     * @return - A new router.
+     */
+    public static ConvenoRouter create(ConvenoExecutorSettings executorSettings) {
         getUnsafe();
-        return new ConvenoRouter();
+        return new ConvenoRouter(executorSettings);
     }
 
-    private Map<Class<?>, Connection> repositoriesConnections = new ConcurrentHashMap<>();
+    private ConvenoExecutorSettings executorSettings;
+
+    private Map<Class<?>, DataSource> repositoriesDataSources = new ConcurrentHashMap<>();
+
+    private Map<Class<?>, ConvenoExecutorService> repositoriesExecutors = new ConcurrentHashMap<>();
+
+    private Map<Class<?>, ProxiedRepository> repositoriesProxies = new ConcurrentHashMap<>();
 
     private Map<Class<?>, Object> repositoriesProxyInstances = new ConcurrentHashMap<>();
 
+    private ProxiedCacheRegistry cacheRegistry = new ProxiedCacheRegistry();
+
+    private Class<?> findGeneratedRepository(Class<?> repositoryType) {
+        String packagePrefix = repositoryType.getPackage() != null ? repositoryType.getPackage().getName() + "." : "";
+        String simpleName = repositoryType.getName().substring(packagePrefix.length()).replace('$', '_');
+
+        try {
+            return Class.forName(packagePrefix + simpleName + ConvenoRepositoryProcessor.IMPLEMENTATION_SUFFIX,
+                    true, repositoryType.getClassLoader());
+        }
+        catch (ClassNotFoundException exception) {
+            return null;
+        }
+    }
+
+    @SneakyThrows
     private <T> T toProxy(ProxiedRepository repositoryProxy) {
-        @SuppressWarnings("unchecked") T proxy = (T) Enhancer.create(repositoryProxy.getSourceType(), repositoryProxy);
+        Class<?> generatedType = findGeneratedRepository(repositoryProxy.getSourceType());
+
+        if (generatedType != null) {
+            @SuppressWarnings("unchecked") T generated = (T) generatedType.getConstructor(ProxiedRepository.class).newInstance(repositoryProxy);
+            return generated;
+        }
+
+        @SuppressWarnings("unchecked") T proxy = (T) CglibRepositoryInterceptor.create(repositoryProxy);
         return proxy;
     }
 
     private <T> T createRepository(Class<T> repositoryType) {
-        Connection connection = getSqlConnection(repositoryType);
+        DataSource dataSource = getDataSource(repositoryType);
 
-        ProxiedConnection connectionProxy = new ProxiedConnection(unsafe, connection);
-        ProxiedRepository repositoryProxy = new ProxiedRepository(connectionProxy, repositoryType);
+        ProxiedConnection connectionProxy = new ProxiedConnection(unsafe, dataSource);
+        ProxiedRepository repositoryProxy = new ProxiedRepository(connectionProxy, getExecutor(repositoryType), repositoryType, cacheRegistry);
+        repositoriesProxies.put(repositoryType, repositoryProxy);
 
         return toProxy(repositoryProxy);
     }
@@ -92,28 +136,91 @@ public final class ConvenoRouter {
         dataSource.setUsername(data[1]);
         dataSource.setPassword(data[2]);
 
+        dataSource.setMaximumPoolSize(repositoryAnnotation.poolSize());
+
         return dataSource;
     }
 
-    private Connection getSqlConnection(Class<?> repositoryType) {
-        AtomicReference<Connection> reference = new AtomicReference<>(
-                repositoriesConnections.get(repositoryType)
-        );
+    private DataSource getDataSource(Class<?> repositoryType) {
+        return repositoriesDataSources.computeIfAbsent(repositoryType,
+                __ -> createDataSource(repositoryType.getDeclaredAnnotation(ConvenoRepository.class)));
+    }
 
-        SneakyCatcher.sneakyThrows(() -> {
-            Connection connection = reference.get();
+    private ConvenoExecutorService createExecutor(Class<?> repositoryType) {
+        ConvenoExecutor executorAnnotation = repositoryType.getDeclaredAnnotation(ConvenoExecutor.class);
 
-            if (connection == null || !connection.isValid(1000)) {
+        ConvenoExecutorSettings settings = executorAnnotation != null
+                ? ConvenoExecutorSettings.of(executorAnnotation) : executorSettings;
 
-                DataSource dataSource = createDataSource(repositoryType.getDeclaredAnnotation(ConvenoRepository.class));
-                reference.set(dataSource.getConnection());
-            }
-        });
+        return new ConvenoExecutorService(repositoryType.getSimpleName(), settings,
+                repositoryType.getDeclaredAnnotation(ConvenoRepository.class).poolSize());
+    }
 
-        Connection result = reference.get();
-        repositoriesConnections.put(repositoryType, result);
+    private ConvenoExecutorService getExecutor(Class<?> repositoryType) {
+        return repositoriesExecutors.computeIfAbsent(repositoryType, this::createExecutor);
+    }
+
+    /**
+     * Get the executor of the repository asynchronous calls,
+     * which exposes the queue depth and rejections count.
+     *
+     * @param repositoryType - Repository interface.
+     * @return - A repository executor.
+     */
+    public ConvenoExecutorService getRepositoryExecutor(Class<?> repositoryType) {
+        if (!repositoriesProxyInstances.containsKey(repositoryType)) {
+            throw new NullPointerException("Repository " + repositoryType + " is not found");
+        }
 
-        return result;
+        return getExecutor(repositoryType);
+    }
+
+    /**
+     * Get the lines cache of the @ConvenoEntityCache repository,
+     * which exposes the hits and misses counts.
+     *
+     * @param repositoryType - Repository interface.
+     * @return - A repository entity cache, or null.
+     */
+    public ProxiedEntityCache getRepositoryEntityCache(Class<?> repositoryType) {
+        if (!repositoriesProxyInstances.containsKey(repositoryType)) {
+            throw new NullPointerException("Repository " + repositoryType + " is not found");
+        }
+
+        return repositoriesProxies.get(repositoryType).getEntityCache();
+    }
+
+    /**
+     * Write the pending calls of all @ConvenoGroupCommit
+     * methods of the router repositories.
+     */
+    public void flush() {
+        repositoriesProxies.values().forEach(ProxiedRepository::flush);
+    }
+
+    /**
+     * Evict the cached responses, which read the tables written
+     * outside of the router repositories.
+     *
+     * @param tables - Names of the written tables, or nothing to evict all responses.
+     */
+    public void invalidateCaches(String... tables) {
+        cacheRegistry.invalidate(Arrays.stream(tables).map(String::toLowerCase).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Shutdown the repositories executors, write the pending
+     * calls and close the repositories connection pools.
+     */
+    public void shutdown() {
+        repositoriesExecutors.values().forEach(ConvenoExecutorService::shutdown);
+        repositoriesProxies.values().forEach(ProxiedRepository::shutdown);
+
+        for (DataSource dataSource : repositoriesDataSources.values()) {
+            if (dataSource instanceof HikariDataSource) {
+                ((HikariDataSource) dataSource).close();
+            }
+        }
     }
 
     public String getRepositoryTable(Class<?> repositoryType) {
@@ -0,0 +1,18 @@
+package net.conveno.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Share the one execution of the @ConvenoQuery between the concurrent calls
+ * with the same bound parameter values, which all get the same frozen response.
+ * <p>
+ * Combined with the @ConvenoCaching time to live, only one call reads the
+ * expired or missed response from the database.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConvenoSingleFlight {
+}
@@ -0,0 +1,60 @@
+package net.conveno.jdbc;
+
+import net.conveno.jdbc.executor.ConvenoExecutorService;
+import net.conveno.jdbc.executor.ConvenoTask;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public enum RejectionPolicy {
+
+    /**
+     * Run the call in the calling thread, or complete its future by
+     * RejectedExecutionException when the executor is shut down.
+     */
+    CALLER_RUNS {
+
+        @Override
+        public void reject(Runnable task, ConvenoExecutorService executor) {
+            if (!executor.isShutdown()) {
+                task.run();
+
+            } else if (task instanceof ConvenoTask) {
+                ((ConvenoTask<?>) task).reject(new RejectedExecutionException("Asynchronous call was rejected, executor is shut down"));
+            }
+        }
+    },
+
+    /**
+     * Drop the call, its future is completed by RejectedExecutionException.
+     */
+    DROP {
+
+        @Override
+        public void reject(Runnable task, ConvenoExecutorService executor) {
+            if (task instanceof ConvenoTask) {
+                ((ConvenoTask<?>) task).reject(new RejectedExecutionException("Asynchronous call was dropped, queue is full"));
+            }
+        }
+    },
+
+    /**
+     * Block the calling thread until the queue has space, or complete
+     * the future by RejectedExecutionException when the executor is shut down.
+     */
+    BLOCK {
+
+        @Override
+        public void reject(Runnable task, ConvenoExecutorService executor) {
+            try {
+                executor.executeBlocking(task);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(exception);
+            }
+        }
+    },
+    ;
+
+    public abstract void reject(Runnable task, ConvenoExecutorService executor);
+}
@@ -0,0 +1,208 @@
+package net.conveno.jdbc.executor;
+
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.RejectionPolicy;
+import net.conveno.jdbc.util.SneakySupplier;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded executor of the repository asynchronous calls.
+ * <p>
+ * On JDK 21+ every call runs on its own virtual thread, and the number
+ * of calls in flight is bounded by `maxThreads + queueCapacity` permits.
+ * On older runtimes the calls run on a bounded platform threads pool.
+ */
+@FieldDefaults(makeFinal = true)
+public class ConvenoExecutorService {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30L;
+
+    /**
+     * Waiting time of the blocked call between the shutdown checks.
+     */
+    private static final long BLOCKING_OFFER_MILLIS = 100L;
+
+    private RejectionPolicy rejectionPolicy;
+
+    private ExecutorService executor;
+
+    /**
+     * Free in-flight calls permits of the virtual threads
+     * executor, or null on the platform threads pool.
+     */
+    private Semaphore permits;
+
+    private int maxThreads, maxPermits;
+
+    private LongAdder rejectedCount = new LongAdder();
+
+    public ConvenoExecutorService(String name, ConvenoExecutorSettings settings, int parallelism) {
+        if (settings.getCoreThreads() < 0 || settings.getMaxThreads() < 0 || settings.getQueueCapacity() < 0) {
+            throw new IllegalArgumentException("Executor coreThreads, maxThreads and queueCapacity of " + name + " must not be negative");
+        }
+
+        this.rejectionPolicy = settings.getRejectionPolicy();
+        this.maxThreads = settings.getMaxThreads() > 0 ? settings.getMaxThreads() : parallelism;
+        this.maxPermits = maxThreads + settings.getQueueCapacity();
+
+        ExecutorService virtualExecutor = VirtualThreads.newExecutor(name);
+
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.permits = new Semaphore(maxPermits);
+
+        } else {
+            this.executor = createThreadsPool(name, settings, parallelism);
+            this.permits = null;
+        }
+    }
+
+    private ThreadPoolExecutor createThreadsPool(String name, ConvenoExecutorSettings settings, int parallelism) {
+        int coreThreads = Math.min(settings.getCoreThreads() > 0 ? settings.getCoreThreads() : parallelism, maxThreads);
+
+        AtomicInteger threadsCounter = new AtomicInteger();
+
+        // zero capacity hands the calls off to the free threads only.
+        BlockingQueue<Runnable> queue = settings.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(settings.getQueueCapacity()) : new SynchronousQueue<>();
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(coreThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+                runnable -> new Thread(runnable, "conveno-" + name + "-" + threadsCounter.incrementAndGet()),
+                (task, __) -> reject(task));
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    private void reject(Runnable task) {
+        rejectedCount.increment();
+        rejectionPolicy.reject(task, this);
+    }
+
+    private Runnable releasePermit(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            }
+            finally {
+                permits.release();
+            }
+        };
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(SneakySupplier<T> supplier) {
+        ConvenoTask<T> task = new ConvenoTask<>(supplier);
+
+        if (permits == null) {
+            executor.execute(task);
+
+        } else if (permits.tryAcquire()) {
+            executePermitted(task);
+
+        } else {
+            reject(task);
+        }
+
+        return task.getFuture();
+    }
+
+    /**
+     * Execute the rejected task, waiting for the free queue space.
+     *
+     * @param task - Rejected task.
+     */
+    public void executeBlocking(Runnable task) throws InterruptedException {
+        if (isShutdown()) {
+            rejectShutdown(task);
+        }
+
+        if (permits == null) {
+            BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) executor).getQueue();
+
+            while (!queue.offer(task, BLOCKING_OFFER_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isShutdown()) {
+                    rejectShutdown(task);
+                }
+            }
+
+            // the queue of the shut down pool may be never drained, if its threads are already stopped.
+            if (isShutdown() && queue.remove(task)) {
+                rejectShutdown(task);
+            }
+
+            return;
+        }
+
+        permits.acquire();
+        executePermitted(task);
+    }
+
+    private void rejectShutdown(Runnable task) {
+        RejectedExecutionException exception = new RejectedExecutionException("Executor is shut down");
+
+        if (task instanceof ConvenoTask) {
+            ((ConvenoTask<?>) task).reject(exception);
+        }
+
+        throw exception;
+    }
+
+    /**
+     * Execute the task, which holds the permit, on the virtual thread,
+     * or release the permit and reject the task if the executor is shut down.
+     */
+    private void executePermitted(Runnable task) {
+        try {
+            executor.execute(releasePermit(task));
+        }
+        catch (RejectedExecutionException exception) {
+            permits.release();
+            reject(task);
+        }
+    }
+
+    public boolean isVirtual() {
+        return permits != null;
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    public int getQueueDepth() {
+        return permits == null ? ((ThreadPoolExecutor) executor).getQueue().size()
+                : Math.max(0, maxPermits - permits.availablePermits() - maxThreads);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getActiveCount() {
+        return permits == null ? ((ThreadPoolExecutor) executor).getActiveCount()
+                : maxPermits - permits.availablePermits();
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Stop accepting the calls and wait for the submitted ones.
+     */
+    public void shutdown() {
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.conveno.jdbc.executor;
+
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.ConvenoExecutor;
+import net.conveno.jdbc.RejectionPolicy;
+
+@Data(staticConstructor = "of")
+@FieldDefaults(makeFinal = true)
+public class ConvenoExecutorSettings {
+
+    public static final ConvenoExecutorSettings DEFAULT = ConvenoExecutorSettings.of(0, 0, 1024, RejectionPolicy.CALLER_RUNS);
+
+    /**
+     * Core threads count, 0 to match the connection pool size.
+     */
+    private int coreThreads;
+
+    /**
+     * Max threads count, 0 to match the connection pool size.
+     */
+    private int maxThreads;
+
+    /**
+     * Pending calls count, 0 to run the calls only on the free threads.
+     */
+    private int queueCapacity;
+
+    private RejectionPolicy rejectionPolicy;
+
+    public static ConvenoExecutorSettings of(ConvenoExecutor executorAnnotation) {
+        return of(executorAnnotation.coreThreads(), executorAnnotation.maxThreads(),
+                executorAnnotation.queueCapacity(), executorAnnotation.rejection());
+    }
+}
@@ -0,0 +1,33 @@
+package net.conveno.jdbc.executor;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.util.SneakySupplier;
+
+import java.util.concurrent.CompletableFuture;
+
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ConvenoTask<T> implements Runnable {
+
+    @Getter
+    private CompletableFuture<T> future = new CompletableFuture<>();
+
+    private SneakySupplier<T> supplier;
+
+    @Override
+    public void run() {
+        try {
+            future.complete(supplier.get());
+        }
+        catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    public void reject(Exception exception) {
+        future.completeExceptionally(exception);
+    }
+}
@@ -0,0 +1,23 @@
+package net.conveno.jdbc.executor;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Virtual threads are not supported before JDK 21,
+ * see the `META-INF/versions/21` variant of this class.
+ */
+@UtilityClass
+public class VirtualThreads {
+
+    /**
+     * Create an executor, which starts a new virtual thread for each task.
+     *
+     * @param name - Threads name prefix.
+     * @return - A virtual threads executor, or null when the runtime does not support them.
+     */
+    public ExecutorService newExecutor(String name) {
+        return null;
+    }
+}
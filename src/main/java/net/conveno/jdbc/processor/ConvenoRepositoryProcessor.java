@@ -0,0 +1,216 @@
+package net.conveno.jdbc.processor;
+
+import net.conveno.jdbc.ConvenoRepository;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a plain implementation class for every @ConvenoRepository
+ * interface, so the repository is created without a runtime cglib proxy.
+ */
+@SupportedAnnotationTypes("net.conveno.jdbc.ConvenoRepository")
+public class ConvenoRepositoryProcessor extends AbstractProcessor {
+
+    public static final String IMPLEMENTATION_SUFFIX = "_ConvenoImpl";
+
+    private static final String PROXIED_REPOSITORY_TYPE = "net.conveno.jdbc.proxied.ProxiedRepository";
+    private static final String PROXIED_METHOD_TYPE = "net.conveno.jdbc.proxied.ProxiedMethod";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConvenoRepository.class)) {
+
+            if (element.getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+
+            TypeElement repositoryElement = (TypeElement) element;
+
+            if (!repositoryElement.getTypeParameters().isEmpty() || repositoryElement.getModifiers().contains(Modifier.PRIVATE)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Repository implementation is not generated, a runtime proxy will be used", repositoryElement);
+                continue;
+            }
+
+            try {
+                generate(repositoryElement);
+            }
+            catch (IOException exception) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate repository implementation: " + exception.getMessage(), repositoryElement);
+            }
+        }
+
+        return false;
+    }
+
+    private String getImplementationSimpleName(TypeElement repositoryElement) {
+        StringBuilder builder = new StringBuilder(repositoryElement.getSimpleName());
+        Element enclosing = repositoryElement.getEnclosingElement();
+
+        while (enclosing instanceof TypeElement) {
+            builder.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return builder.append(IMPLEMENTATION_SUFFIX).toString();
+    }
+
+    private List<ExecutableElement> getRepositoryMethods(TypeElement repositoryElement) {
+        List<ExecutableElement> methods = new ArrayList<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(repositoryElement))) {
+            Set<Modifier> modifiers = method.getModifiers();
+
+            if (modifiers.contains(Modifier.ABSTRACT) && !modifiers.contains(Modifier.STATIC)
+                    && method.getEnclosingElement().getKind() == ElementKind.INTERFACE) {
+
+                methods.add(method);
+            }
+        }
+
+        return methods;
+    }
+
+    private String toClassLiteral(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString() + ".class";
+    }
+
+    private String toTypeParameters(ExecutableElement method) {
+        if (method.getTypeParameters().isEmpty()) {
+            return "";
+        }
+
+        return method.getTypeParameters().stream()
+                .map(typeParameter -> typeParameter.getSimpleName() + " extends " + typeParameter.getBounds().stream()
+                        .map(TypeMirror::toString)
+                        .collect(Collectors.joining(" & ")))
+                .collect(Collectors.joining(", ", "<", "> "));
+    }
+
+    private String toReturnCast(TypeMirror returnType) {
+        if (returnType.getKind().isPrimitive()) {
+            return "(" + processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(returnType.getKind())) + ") ";
+        }
+
+        return "(" + returnType + ") ";
+    }
+
+    private void generate(TypeElement repositoryElement) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(repositoryElement).getQualifiedName().toString();
+        String simpleName = getImplementationSimpleName(repositoryElement);
+
+        String repositoryName = repositoryElement.getQualifiedName().toString();
+        List<ExecutableElement> methods = getRepositoryMethods(repositoryElement);
+
+        StringBuilder source = new StringBuilder();
+
+        source.append("// Generated by ").append(getClass().getSimpleName()).append(", do not edit.\n");
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("@SuppressWarnings(\"unchecked\")\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(repositoryName).append(" {\n\n");
+        source.append("    private final ").append(PROXIED_REPOSITORY_TYPE).append(" repository;\n\n");
+
+        for (int index = 0; index < methods.size(); index++) {
+            source.append("    private final ").append(PROXIED_METHOD_TYPE).append(" method").append(index).append(";\n");
+        }
+
+        // constructor.
+        source.append("\n    public ").append(simpleName).append("(").append(PROXIED_REPOSITORY_TYPE).append(" repository)\n");
+        source.append("    throws NoSuchMethodException {\n\n");
+        source.append("        this.repository = repository;\n\n");
+
+        for (int index = 0; index < methods.size(); index++) {
+            ExecutableElement method = methods.get(index);
+
+            source.append("        this.method").append(index).append(" = repository.getMethod(")
+                    .append(repositoryName).append(".class.getMethod(\"").append(method.getSimpleName()).append("\"");
+
+            for (VariableElement parameter : method.getParameters()) {
+                source.append(", ").append(toClassLiteral(parameter.asType()));
+            }
+
+            source.append("));\n");
+        }
+
+        source.append("    }\n");
+
+        // methods.
+        for (int index = 0; index < methods.size(); index++) {
+            ExecutableElement method = methods.get(index);
+            List<? extends VariableElement> parameters = method.getParameters();
+
+            source.append("\n    @Override\n    public ").append(toTypeParameters(method))
+                    .append(method.getReturnType()).append(" ").append(method.getSimpleName()).append("(");
+
+            for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+                TypeMirror parameterType = parameters.get(parameterIndex).asType();
+
+                if (parameterIndex > 0) {
+                    source.append(", ");
+                }
+
+                if (method.isVarArgs() && parameterIndex == parameters.size() - 1 && parameterType.getKind() == TypeKind.ARRAY) {
+                    source.append(parameterType.toString().replaceFirst("\\[]$", "...")).append(" arg").append(parameterIndex);
+                } else {
+                    source.append(parameterType).append(" arg").append(parameterIndex);
+                }
+            }
+
+            source.append(")");
+
+            if (!method.getThrownTypes().isEmpty()) {
+                source.append(" throws ").append(method.getThrownTypes().stream()
+                        .map(TypeMirror::toString)
+                        .collect(Collectors.joining(", ")));
+            }
+
+            source.append(" {\n        ");
+
+            boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+
+            if (!isVoid) {
+                source.append("return ").append(toReturnCast(method.getReturnType()));
+            }
+
+            source.append("repository.invoke(method").append(index).append(", new Object[]{");
+
+            for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+                source.append(parameterIndex > 0 ? ", " : "").append("arg").append(parameterIndex);
+            }
+
+            source.append("});\n    }\n");
+        }
+
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, repositoryElement).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Runtime cglib proxy of the repository, used when the
+ * repository implementation was not generated at build time.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CglibRepositoryInterceptor implements MethodInterceptor {
+
+    private ProxiedRepository repository;
+
+    public static Object create(ProxiedRepository repository) {
+        return Enhancer.create(repository.getSourceType(), new CglibRepositoryInterceptor(repository));
+    }
+
+    @Override
+    public Object intercept(Object o, Method method, Object[] args, MethodProxy methodProxy) {
+        return repository.invoke(repository.getMethod(method), args);
+    }
+}
@@ -0,0 +1,80 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Responses caches of the router by the tables, which their
+ * statements read, to evict the responses on the writes.
+ */
+@FieldDefaults(makeFinal = true)
+public class ProxiedCacheRegistry {
+
+    private Set<ProxiedResultCache> caches = ConcurrentHashMap.newKeySet();
+
+    private Map<String, Set<ProxiedResultCache>> cachesByTables = new ConcurrentHashMap<>();
+
+    public void register(ProxiedResultCache resultCache) {
+        caches.add(resultCache);
+
+        for (String table : resultCache.getTables()) {
+            cachesByTables.computeIfAbsent(table, __ -> ConcurrentHashMap.newKeySet()).add(resultCache);
+        }
+    }
+
+    public boolean isEmpty() {
+        return caches.isEmpty();
+    }
+
+    /**
+     * Evict the responses, which read the written tables.
+     *
+     * @param tables - Written tables, or empty set to evict all responses.
+     */
+    public void invalidate(Set<String> tables) {
+        invalidate(tables, null);
+    }
+
+    /**
+     * Evict the responses, which read the written tables,
+     * except the cache, which the write is written through.
+     *
+     * @param tables - Written tables, or empty set to evict all responses.
+     * @param except - Cache, which is not evicted, or null.
+     */
+    public void invalidate(Set<String> tables, ProxiedResultCache except) {
+        if (caches.isEmpty()) {
+            return;
+        }
+
+        for (ProxiedResultCache resultCache : tables.isEmpty() ? caches : toCaches(tables)) {
+
+            if (resultCache != except) {
+                resultCache.clear();
+            }
+        }
+    }
+
+    private Set<ProxiedResultCache> toCaches(Set<String> tables) {
+        if (tables.size() == 1) {
+            return cachesByTables.getOrDefault(tables.iterator().next(), Collections.emptySet());
+        }
+
+        Set<ProxiedResultCache> tablesCaches = new HashSet<>();
+
+        for (String table : tables) {
+            tablesCaches.addAll(cachesByTables.getOrDefault(table, Collections.emptySet()));
+        }
+
+        return tablesCaches;
+    }
+
+    public void invalidateAll() {
+        caches.forEach(ProxiedResultCache::clear);
+    }
+}
@@ -4,12 +4,19 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import net.conveno.jdbc.CacheScope;
+import net.conveno.jdbc.response.ConvenoBatchResponse;
+import net.conveno.jdbc.response.ConvenoCursor;
 import net.conveno.jdbc.response.ConvenoResponseExecutor;
+import net.conveno.jdbc.util.SneakyFunction;
 import sun.misc.Unsafe;
 
-import java.lang.reflect.Parameter;
+import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,7 +29,7 @@ public class ProxiedConnection {
     private static final List<String> FETCH_PREFIXES = Arrays.asList("select", "show");
 
     private Unsafe unsafe;
-    private Connection connection;
+    private DataSource dataSource;
 
     private Map<String, ProxiedQuery> cache = new ConcurrentHashMap<>();
 
@@ -35,12 +42,150 @@ public class ProxiedConnection {
         return scope.processGet(this, sql, cache);
     }
 
-    ConvenoResponseExecutor execute(ProxiedQuery query, ProxiedRepository repository, Parameter[] parameters, Object[] initargs) {
+    /**
+     * Borrow a connection from the pool for the duration
+     * of the function and give it back right after.
+     *
+     * @param function - Work to do with the borrowed connection.
+     * @return - A function result.
+     */
+    public <T> T borrow(SneakyFunction<Connection, T> function)
+    throws Exception {
 
-        if (FETCH_PREFIXES.stream().anyMatch(prefix -> query.getSql().toLowerCase().startsWith(prefix))) {
-            return query.wrapResponse(repository, parameters, initargs);
+        try (Connection connection = dataSource.getConnection()) {
+            return function.apply(connection);
         }
+    }
+
+    /**
+     * Open the cursor, which holds a connection
+     * from the pool until the cursor is closed.
+     */
+    ConvenoCursor openCursor(ProxiedMethod proxiedMethod, Object[] initargs)
+    throws SQLException {
+
+        ProxiedMethod.ProxiedStatement statement = proxiedMethod.getStatements()[0];
+        Connection connection = dataSource.getConnection();
+
+        try {
+            // Drivers like PostgreSQL stream the rows only outside the auto-commit mode.
+            connection.setAutoCommit(false);
+            return statement.getQuery().openCursor(connection, statement, proxiedMethod.getFetchSize(), initargs);
+        }
+        catch (SQLException | RuntimeException exception) {
+            connection.close();
+            throw exception;
+        }
+    }
+
+    boolean isFetch(String sql) {
+        String lowerCaseSql = sql.trim().toLowerCase();
+        return FETCH_PREFIXES.stream().anyMatch(lowerCaseSql::startsWith);
+    }
+
+    ConvenoResponseExecutor execute(Connection connection, ProxiedMethod.ProxiedStatement statement, Object[] initargs) {
+
+        if (statement.isFetch()) {
+            return statement.getQuery().wrapResponse(connection, statement, initargs);
+        }
+
+        return statement.getQuery().wrapGeneratedKeysResponse(connection, statement, initargs);
+    }
+
+    private static Iterator<Object[]> toRowsArgs(Object[] initargs, int batchArgumentIndex) {
+        Iterable<?> rows = (Iterable<?>) initargs[batchArgumentIndex];
+
+        if (rows == null) {
+            return Collections.emptyIterator();
+        }
+
+        Iterator<?> iterator = rows.iterator();
+        Object[] rowargs = initargs.clone();
+
+        return new Iterator<Object[]>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
 
-        return query.wrapGeneratedKeysResponse(repository, parameters, initargs);
+            @Override
+            public Object[] next() {
+                rowargs[batchArgumentIndex] = iterator.next();
+                return rowargs;
+            }
+        };
+    }
+
+    ConvenoBatchResponse executeBatch(Connection connection, ProxiedMethod proxiedMethod, Object[] initargs)
+    throws SQLException {
+
+        ConvenoBatchResponse response = new ConvenoBatchResponse(unsafe);
+        ProxiedMethod.ProxiedStatement statement = proxiedMethod.getStatements()[0];
+
+        Object rows = initargs[proxiedMethod.getBatchArgumentIndex()];
+        int rowsCount = rows instanceof Collection ? ((Collection<?>) rows).size() : -1;
+
+        statement.getQuery().executeBatch(connection, statement,
+                toRowsArgs(initargs, proxiedMethod.getBatchArgumentIndex()), rowsCount, proxiedMethod.getBatchSize(), response);
+
+        return response;
+    }
+
+    /**
+     * Execute the coalesced calls of the statement by
+     * JDBC batches under the single commit.
+     *
+     * @param statement - Statement of the @ConvenoGroupCommit method.
+     * @param rowsArgs  - Method arguments of each call.
+     * @param batchSize - Rows count of the one `executeBatch` call.
+     * @throws UnrolledCommitException - If the failed calls are not rolled back.
+     */
+    void executeGroupCommit(ProxiedMethod.ProxiedStatement statement, List<Object[]> rowsArgs, int batchSize)
+    throws Exception {
+
+        borrow(connection -> {
+            connection.setAutoCommit(false);
+
+            try {
+                statement.getQuery().executeBatch(connection, statement, rowsArgs.iterator(), rowsArgs.size(), batchSize, null);
+                connection.commit();
+            }
+            catch (Exception exception) {
+                rollback(connection, exception);
+                throw exception;
+            }
+
+            connection.setAutoCommit(true);
+            return null;
+        });
+    }
+
+    /**
+     * Roll back the failed group commit. The auto-commit is restored only after
+     * the rollback, because it would commit the already executed statements.
+     */
+    private void rollback(Connection connection, Exception failure)
+    throws UnrolledCommitException {
+
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+        catch (SQLException exception) {
+            exception.addSuppressed(failure);
+            throw new UnrolledCommitException(exception);
+        }
+    }
+
+    /**
+     * Failure of the group commit, which is not rolled back,
+     * so its calls may be written partially.
+     */
+    static class UnrolledCommitException extends SQLException {
+
+        UnrolledCommitException(SQLException cause) {
+            super("Group commit is failed and not rolled back", cause);
+        }
     }
 }
@@ -0,0 +1,139 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import net.conveno.jdbc.ConvenoEntityCache;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+import net.conveno.jdbc.response.ConvenoResponseSchema;
+import net.conveno.jdbc.util.EntityStatement;
+import sun.misc.Unsafe;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of the @ConvenoEntityCache repository lines by the primary key.
+ * <p>
+ * Lookups of the missing lines are not cached. Inserts and updates of the
+ * repository, which bind every written value to a placeholder, replace
+ * the cached line by the written one, and the other writes of the line
+ * evict it.
+ */
+@FieldDefaults(makeFinal = true)
+public class ProxiedEntityCache extends ProxiedResultCache {
+
+    private Unsafe unsafe;
+
+    @Getter
+    private String idColumn;
+
+    /**
+     * Columns of the looked up lines, or null until the first lookup.
+     */
+    @NonFinal
+    private volatile ConvenoResponseSchema schema;
+
+    public ProxiedEntityCache(Unsafe unsafe, String table, ConvenoEntityCache entityCache) {
+        super(entityCache.ttlMillis() > 0 ? entityCache.ttlMillis() : Long.MAX_VALUE, entityCache.maxEntries(), 0,
+                Collections.singleton(table.toLowerCase()));
+
+        this.unsafe = unsafe;
+        this.idColumn = entityCache.idColumn().toLowerCase();
+    }
+
+    @Override
+    public ConvenoResponse put(ProxiedStatementKey key, ConvenoResponse response, long generation) {
+        if (response.isEmpty()) {
+            return response.freeze();
+        }
+
+        if (schema == null) {
+            schema = response.getSchema();
+        }
+
+        return super.put(key, response, generation);
+    }
+
+    /**
+     * Write the line of the executed primary key statement through the cache.
+     *
+     * @param statement     - Primary key statement of the table.
+     * @param values        - Values bound to the statement placeholders.
+     * @param generatedKeys - Generated keys of the insert, or null.
+     * @param generation    - Generation of the cache before the statement was executed.
+     */
+    public void write(EntityStatement statement, Object[] values, ConvenoResponse generatedKeys, long generation) {
+        Object id = statement.getIdIndex() >= 0 ? values[statement.getIdIndex()] : toGeneratedId(generatedKeys);
+
+        // new line of the unknown key is not cached yet.
+        if (id == null) {
+            return;
+        }
+
+        ProxiedStatementKey key = ProxiedStatementKey.of(id);
+        ConvenoResponse line = null;
+
+        if (statement.isPlain() && schema != null && statement.getType() != EntityStatement.Type.DELETE) {
+            line = toLine(statement, values, id, statement.getType() == EntityStatement.Type.UPDATE ? peek(key) : null);
+        }
+
+        if (line != null) {
+            replace(key, line, generation);
+        } else {
+            remove(key);
+        }
+    }
+
+    /**
+     * Evict the line, which is written by the primary key statement
+     * of the transaction, so its line is not known.
+     */
+    public void evict(EntityStatement statement, Object[] values) {
+        if (statement.getIdIndex() >= 0) {
+            remove(ProxiedStatementKey.of(values[statement.getIdIndex()]));
+        }
+    }
+
+    private static Object toGeneratedId(ConvenoResponse generatedKeys) {
+        if (generatedKeys == null || generatedKeys.isEmpty()) {
+            return null;
+        }
+
+        return generatedKeys.first().getObject(1).orElse(null);
+    }
+
+    /**
+     * @param previous - Cached line of the updated key, or null for the insert.
+     * @return - A written line, or null if the values of its columns are not known.
+     */
+    private ConvenoResponse toLine(EntityStatement statement, Object[] values, Object id, ConvenoResponse previous) {
+        ConvenoResponseSchema schema = this.schema;
+        Map<String, Object> lineValues = new HashMap<>();
+
+        if (statement.getType() == EntityStatement.Type.UPDATE) {
+            if (previous == null) {
+                return null;
+            }
+
+            ConvenoResponseLine previousLine = previous.first();
+
+            for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+                lineValues.put(schema.findLabel(columnIndex), previousLine.getObject(columnIndex).orElse(null));
+            }
+        }
+
+        String[] columns = statement.getColumns();
+
+        for (int idx = 0; idx < columns.length; idx++) {
+            if (columns[idx] != null) {
+                lineValues.put(columns[idx], values[idx]);
+            }
+        }
+
+        lineValues.put(idColumn, id);
+        return ConvenoResponse.ofLine(unsafe, schema, lineValues);
+    }
+}
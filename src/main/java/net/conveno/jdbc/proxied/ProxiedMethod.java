@@ -0,0 +1,483 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoColumnarResponse;
+import net.conveno.jdbc.response.ConvenoCursor;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.util.EntityStatement;
+import net.conveno.jdbc.util.MultiRowValues;
+import net.conveno.jdbc.util.PreparedSql;
+import net.conveno.jdbc.util.RepositoryValidator;
+import net.conveno.jdbc.util.SqlTables;
+import net.conveno.jdbc.util.StringParser;
+
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Invocation plan of the repository method, built once
+ * when the repository proxy is created.
+ */
+@Getter
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProxiedMethod {
+
+    @Getter
+    @FieldDefaults(makeFinal = true)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ProxiedStatement {
+
+        private ProxiedQuery query;
+        private PreparedSql preparedSql;
+
+        /**
+         * Method argument index bound to each placeholder.
+         */
+        private int[] argumentIndexes;
+
+        private boolean fetch;
+
+        /**
+         * Multi-row form of the insert statement, or null.
+         */
+        private MultiRowValues multiRowValues;
+
+        /**
+         * Tables, which the fetching statement reads or the updating
+         * statement writes, or empty set if they are not known.
+         */
+        private Set<String> tables;
+
+        /**
+         * Primary key statement of the @ConvenoEntityCache repository table, or null.
+         */
+        private EntityStatement entityStatement;
+
+        /**
+         * Multi-row statements support of the database,
+         * or null until the first multi-row statement.
+         */
+        @NonFinal
+        @Setter(AccessLevel.PACKAGE)
+        private volatile Boolean multiRowSupported;
+    }
+
+    private static final ProxiedStatement[] EMPTY_STATEMENTS = new ProxiedStatement[0];
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private Method method;
+
+    private boolean asynchronous, query, transaction, responseAwait, responseReturnNeeded;
+
+    /**
+     * Method returns a CompletableFuture of the response, which
+     * is completed by the executor after the method returns.
+     */
+    private boolean future;
+
+    /**
+     * Rows count of the one `executeBatch` call and index of the
+     * Iterable argument of the @ConvenoBatch method, or 0 and -1.
+     */
+    private int batchSize, batchArgumentIndex;
+
+    /**
+     * Fetch size of the method, which returns a ConvenoCursor,
+     * Stream or Iterator of the response lines, or 0.
+     */
+    private int fetchSize;
+
+    /**
+     * Cursor method returns a Stream of the response lines.
+     */
+    private boolean cursorStream;
+
+    /**
+     * Method returns the ConvenoColumnarResponse.
+     */
+    private boolean columnar;
+
+    /**
+     * Heap size of the response lines, over which
+     * the lines are spilled to a temporary file, or 0.
+     */
+    private long memoryBudget;
+
+    /**
+     * Pending calls queue of the @ConvenoGroupCommit method, or null.
+     */
+    private ProxiedWriteCoalescer coalescer;
+
+    /**
+     * Responses cache of the @ConvenoCaching method with the time to live,
+     * entity cache of the primary key lookup, or null.
+     */
+    private ProxiedResultCache resultCache;
+
+    /**
+     * In-flight executions of the @ConvenoSingleFlight method, or null.
+     */
+    private ProxiedSingleFlight singleFlight;
+
+    private ConvenoAsynchronous asynchronousAnnotation;
+    private CacheScope cacheScope;
+
+    private ProxiedStatement[] statements;
+
+    /**
+     * Declaration error thrown on the method call, or null.
+     */
+    private RuntimeException error;
+
+    private static boolean isFuture(Method method) {
+        return method.getReturnType() == CompletableFuture.class;
+    }
+
+    private static Class<?> getResponseType(Method method) {
+        if (!isFuture(method)) {
+            return method.getReturnType();
+        }
+
+        Type returnType = method.getGenericReturnType();
+
+        if (returnType instanceof ParameterizedType) {
+            Type responseType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+
+            if (responseType instanceof Class) {
+                return (Class<?>) responseType;
+            }
+
+            if (responseType instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) responseType).getRawType();
+            }
+        }
+
+        return Object.class;
+    }
+
+    private static boolean isCursor(Class<?> responseType) {
+        return responseType == ConvenoCursor.class || responseType == Stream.class || responseType == Iterator.class;
+    }
+
+    private static boolean isResponseReturnNeeded(Method method) {
+        Class<?> returnType = getResponseType(method);
+        return !returnType.isPrimitive() /* void */ && (List.class.isAssignableFrom(returnType)
+                || isCursor(returnType) || returnType == ConvenoColumnarResponse.class);
+    }
+
+    private static int toFetchSize(Method method, ProxiedStatement[] statements) {
+        if (!RepositoryValidator.isQuery(method) || RepositoryValidator.isBatch(method) || !statements[0].isFetch()) {
+            throw new IllegalArgumentException("Cursor is supported only by the fetching @ConvenoQuery");
+        }
+
+        ConvenoFetchSize fetchSize = method.getDeclaredAnnotation(ConvenoFetchSize.class);
+
+        if (fetchSize != null && fetchSize.value() <= 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoFetchSize value must be positive");
+        }
+
+        return fetchSize != null ? fetchSize.value() : DEFAULT_FETCH_SIZE;
+    }
+
+    private static long toMemoryBudget(Method method, Class<?> responseType) {
+        if (!RepositoryValidator.isQuery(method) || RepositoryValidator.isBatch(method) || !ConvenoResponse.class.isAssignableFrom(responseType)) {
+            throw new IllegalArgumentException("Annotation @ConvenoMemoryBudget is supported only by @ConvenoQuery returning ConvenoResponse");
+        }
+
+        long memoryBudget = method.getDeclaredAnnotation(ConvenoMemoryBudget.class).value();
+
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoMemoryBudget value must be positive");
+        }
+
+        return memoryBudget;
+    }
+
+    /**
+     * Response of the method can be frozen and shared by the calls.
+     */
+    private static boolean isSharedResponse(Method method, Class<?> responseType, ProxiedStatement[] statements) {
+        return RepositoryValidator.isQuery(method) && !RepositoryValidator.isBatch(method) && statements[0].isFetch()
+                && ConvenoResponse.class.isAssignableFrom(responseType) && !method.isAnnotationPresent(ConvenoMemoryBudget.class)
+                && !method.isAnnotationPresent(ConvenoNonResponse.class);
+    }
+
+    private static ProxiedSingleFlight toSingleFlight(Method method, Class<?> responseType, ProxiedStatement[] statements) {
+        if (!isSharedResponse(method, responseType, statements)) {
+            throw new IllegalArgumentException("Annotation @ConvenoSingleFlight is supported only by the fetching @ConvenoQuery returning ConvenoResponse");
+        }
+
+        return new ProxiedSingleFlight();
+    }
+
+    private static ProxiedResultCache toResultCache(ProxiedRepository repository, Method method,
+                                                    Class<?> responseType, ProxiedStatement[] statements) {
+        ConvenoCaching caching = method.getDeclaredAnnotation(ConvenoCaching.class);
+
+        if (caching.ttlMillis() < 0 || caching.maxEntries() <= 0 || caching.maxBytes() < 0 || caching.offHeapBytes() < 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoCaching ttlMillis, maxBytes and offHeapBytes must not be negative, maxEntries must be positive");
+        }
+
+        if (caching.offHeapBytes() > 0 && caching.maxBytes() > 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoCaching off-heap responses are limited only by offHeapBytes");
+        }
+
+        if (caching.ttlMillis() == 0) {
+            return null;
+        }
+
+        if (!isSharedResponse(method, responseType, statements)) {
+            throw new IllegalArgumentException("Responses caching is supported only by the fetching @ConvenoQuery returning ConvenoResponse");
+        }
+
+        ProxiedResultCache resultCache = caching.offHeapBytes() > 0
+                ? new ProxiedOffHeapCache(caching.ttlMillis(), caching.maxEntries(), caching.offHeapBytes(), caching.compress(), statements[0].getTables())
+                : new ProxiedResultCache(caching.ttlMillis(), caching.maxEntries(), caching.maxBytes(), statements[0].getTables());
+
+        repository.getCacheRegistry().register(resultCache);
+        return resultCache;
+    }
+
+    private static ProxiedResultCache toEntityCache(ProxiedRepository repository, Method method,
+                                                    Class<?> responseType, ProxiedStatement[] statements) {
+
+        ConvenoCaching caching = method.getDeclaredAnnotation(ConvenoCaching.class);
+
+        if (caching != null && caching.ttlMillis() > 0) {
+            throw new IllegalArgumentException("Primary key lookup of the @ConvenoEntityCache repository must not be cached by @ConvenoCaching ttlMillis");
+        }
+
+        // the other responses of the lookup are read from the database.
+        return isSharedResponse(method, responseType, statements) ? repository.getEntityCache() : null;
+    }
+
+    private static CacheScope getCacheScope(Method method) {
+        ConvenoCaching caching = method.getDeclaredAnnotation(ConvenoCaching.class);
+        return caching != null ? caching.scope() : null;
+    }
+
+    private static String[] toParameterNames(Method method) {
+        Class<ConvenoParam> convenoParamType = ConvenoParam.class;
+
+        Parameter[] parameters = method.getParameters();
+        String[] parameterNames = new String[parameters.length];
+
+        for (int idx = 0; idx < parameters.length; idx++) {
+            Parameter parameter = parameters[idx];
+
+            if (!parameter.isAnnotationPresent(convenoParamType)) {
+                throw new IncompleteAnnotationException(convenoParamType, parameter.getName());
+            }
+
+            parameterNames[idx] = parameter.getDeclaredAnnotation(convenoParamType).value();
+        }
+
+        return parameterNames;
+    }
+
+    private static int[] toArgumentIndexes(String[] parameterNames, PreparedSql preparedSql) {
+        String[] placeholderNames = preparedSql.getParameterNames();
+        int[] argumentIndexes = new int[placeholderNames.length];
+
+        for (int idx = 0; idx < placeholderNames.length; idx++) {
+            argumentIndexes[idx] = -1;
+
+            for (int argumentIndex = 0; argumentIndex < parameterNames.length; argumentIndex++) {
+
+                if (parameterNames[argumentIndex].equals(placeholderNames[idx])) {
+                    argumentIndexes[idx] = argumentIndex;
+                    break;
+                }
+            }
+
+            if (argumentIndexes[idx] < 0) {
+                throw new IllegalArgumentException("Parameter ${" + placeholderNames[idx] + "} is not declared by @ConvenoParam");
+            }
+        }
+
+        return argumentIndexes;
+    }
+
+    private static int toBatchArgumentIndex(Method method) {
+        if (!RepositoryValidator.isQuery(method) || RepositoryValidator.isTransaction(method)) {
+            throw new IllegalArgumentException("Annotation @ConvenoBatch is supported only by @ConvenoQuery");
+        }
+
+        if (method.getDeclaredAnnotation(ConvenoBatch.class).size() <= 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoBatch size must be positive");
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        for (int idx = 0; idx < parameterTypes.length; idx++) {
+            if (Iterable.class.isAssignableFrom(parameterTypes[idx])) {
+                return idx;
+            }
+        }
+
+        throw new IllegalArgumentException("Method marked @ConvenoBatch must accept an Iterable @ConvenoParam");
+    }
+
+    private static ProxiedWriteCoalescer toCoalescer(ProxiedRepository repository, ProxiedConnection connection,
+                                                     Method method, ProxiedStatement[] statements) {
+
+        ConvenoAsynchronous asynchronous = method.getDeclaredAnnotation(ConvenoAsynchronous.class);
+
+        if (asynchronous == null || !asynchronous.onlySubmit()) {
+            throw new IllegalArgumentException("Annotation @ConvenoGroupCommit requires @ConvenoAsynchronous(onlySubmit = true)");
+        }
+
+        if (statements.length != 1 || !RepositoryValidator.isQuery(method) || RepositoryValidator.isBatch(method) || statements[0].isFetch()) {
+            throw new IllegalArgumentException("Annotation @ConvenoGroupCommit is supported only by the updating @ConvenoQuery");
+        }
+
+        ConvenoGroupCommit groupCommit = method.getDeclaredAnnotation(ConvenoGroupCommit.class);
+
+        if (groupCommit.size() <= 0 || groupCommit.deadlineMillis() < 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoGroupCommit size must be positive and deadlineMillis must not be negative");
+        }
+
+        return new ProxiedWriteCoalescer(connection, statements[0], repository.getCacheRegistry(), repository.getFlusher(),
+                groupCommit.size(), groupCommit.deadlineMillis());
+    }
+
+    private static ProxiedStatement toStatement(ProxiedRepository repository, ProxiedConnection connection,
+                                                CacheScope cacheScope, String[] parameterNames, String sql) {
+
+        PreparedSql preparedSql = StringParser.compile(repository, sql);
+
+        boolean fetch = connection.isFetch(sql);
+
+        ProxiedEntityCache entityCache = repository.getEntityCache();
+        EntityStatement entityStatement = entityCache != null
+                ? EntityStatement.of(preparedSql.getSql(), repository.getTable(), entityCache.getIdColumn()) : null;
+
+        return new ProxiedStatement(connection.query(cacheScope, sql), preparedSql,
+                toArgumentIndexes(parameterNames, preparedSql), fetch, fetch ? null : MultiRowValues.of(preparedSql),
+                fetch ? SqlTables.readTables(preparedSql.getSql()) : SqlTables.writtenTables(preparedSql.getSql()),
+                entityStatement);
+    }
+
+    private static ProxiedStatement[] toStatements(ProxiedRepository repository, ProxiedConnection connection,
+                                                   Method method, CacheScope cacheScope) {
+
+        if (RepositoryValidator.isQuery(method)) {
+            String[] parameterNames = toParameterNames(method);
+            String sql = RepositoryValidator.toStringQuery(method);
+
+            return new ProxiedStatement[]{toStatement(repository, connection, cacheScope, parameterNames, sql)};
+        }
+
+        if (RepositoryValidator.isTransaction(method)) {
+            String[] parameterNames = toParameterNames(method);
+            ConvenoQuery[] queryAnnotations = method.getDeclaredAnnotation(ConvenoTransaction.class).value();
+
+            ProxiedStatement[] statements = new ProxiedStatement[queryAnnotations.length];
+
+            for (int idx = 0; idx < queryAnnotations.length; idx++) {
+                String sql = RepositoryValidator.toStringQuery(queryAnnotations[idx]);
+                statements[idx] = toStatement(repository, connection, cacheScope, parameterNames, sql);
+            }
+
+            return statements;
+        }
+
+        return EMPTY_STATEMENTS;
+    }
+
+    static ProxiedMethod create(ProxiedRepository repository, ProxiedConnection connection, Method method) {
+        CacheScope cacheScope = getCacheScope(method);
+
+        ProxiedStatement[] statements = EMPTY_STATEMENTS;
+        RuntimeException error = null;
+
+        int batchSize = 0, batchArgumentIndex = -1;
+        ProxiedWriteCoalescer coalescer = null;
+
+        Class<?> responseType = getResponseType(method);
+        int fetchSize = 0;
+
+        long memoryBudget = 0;
+        ProxiedResultCache resultCache = null;
+        ProxiedSingleFlight singleFlight = null;
+
+        try {
+            statements = toStatements(repository, connection, method, cacheScope);
+
+            if (RepositoryValidator.isBatch(method)) {
+                batchArgumentIndex = toBatchArgumentIndex(method);
+                batchSize = method.getDeclaredAnnotation(ConvenoBatch.class).size();
+            }
+
+            if (isCursor(responseType)) {
+                fetchSize = toFetchSize(method, statements);
+            }
+
+            if (responseType == ConvenoColumnarResponse.class && (!RepositoryValidator.isQuery(method) || RepositoryValidator.isBatch(method))) {
+                throw new IllegalArgumentException("ConvenoColumnarResponse is supported only by @ConvenoQuery");
+            }
+
+            if (method.isAnnotationPresent(ConvenoMemoryBudget.class)) {
+                memoryBudget = toMemoryBudget(method, responseType);
+            }
+
+            if (method.isAnnotationPresent(ConvenoGroupCommit.class)) {
+                coalescer = toCoalescer(repository, connection, method, statements);
+            }
+
+            if (cacheScope != null) {
+                resultCache = toResultCache(repository, method, responseType, statements);
+            }
+
+            if (statements.length == 1 && statements[0].getEntityStatement() != null
+                    && statements[0].getEntityStatement().getType() == EntityStatement.Type.LOOKUP) {
+
+                resultCache = toEntityCache(repository, method, responseType, statements);
+            }
+
+            if (method.isAnnotationPresent(ConvenoSingleFlight.class)) {
+                singleFlight = toSingleFlight(method, responseType, statements);
+            }
+        }
+        catch (RuntimeException exception) {
+            error = exception;
+        }
+
+        return new ProxiedMethod(method,
+                RepositoryValidator.isAsynchronous(method),
+                RepositoryValidator.isQuery(method),
+                RepositoryValidator.isTransaction(method),
+                RepositoryValidator.canResponseReturn(method),
+                isResponseReturnNeeded(method),
+                isFuture(method),
+                batchSize,
+                batchArgumentIndex,
+                fetchSize,
+                responseType == Stream.class,
+                responseType == ConvenoColumnarResponse.class,
+                memoryBudget,
+                coalescer,
+                resultCache,
+                singleFlight,
+                method.getDeclaredAnnotation(ConvenoAsynchronous.class),
+                cacheScope,
+                statements,
+                error);
+    }
+}
@@ -0,0 +1,37 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+import java.util.Set;
+
+/**
+ * Cache of the responses, which lines are encoded to the direct
+ * buffers, so the cached lines do not grow the old generation.
+ * <p>
+ * The `maxBytes` limits the encoded size of the responses. The direct
+ * buffer of the evicted response is freed by the garbage collector,
+ * when the callers do not read the response anymore.
+ */
+@FieldDefaults(makeFinal = true)
+public class ProxiedOffHeapCache extends ProxiedResultCache {
+
+    @Getter
+    private boolean compress;
+
+    public ProxiedOffHeapCache(long ttlMillis, int maxEntries, long offHeapBytes, boolean compress, Set<String> tables) {
+        super(ttlMillis, maxEntries, offHeapBytes, tables);
+        this.compress = compress;
+    }
+
+    @Override
+    protected ConvenoResponse toCachedResponse(ConvenoResponse response) {
+        return response.toOffHeap(compress);
+    }
+
+    @Override
+    protected long sizeOf(ConvenoResponse cachedResponse) {
+        return cachedResponse.getOffHeapSize();
+    }
+}
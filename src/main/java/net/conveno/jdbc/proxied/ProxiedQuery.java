@@ -2,57 +2,251 @@ package net.conveno.jdbc.proxied;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
+import net.conveno.jdbc.response.ConvenoBatchResponse;
+import net.conveno.jdbc.response.ConvenoCursor;
 import net.conveno.jdbc.response.ConvenoResponseExecutor;
 import net.conveno.jdbc.response.Result;
-import net.conveno.jdbc.util.StringParser;
+import net.conveno.jdbc.util.MultiRowValues;
+import net.conveno.jdbc.util.PreparedSql;
+import net.conveno.jdbc.util.StatementBinder;
 
 import java.io.Serializable;
-import java.lang.reflect.Parameter;
-import java.sql.SQLException;
-import java.sql.Statement;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 
 @Getter
 @FieldDefaults(makeFinal = true)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public class ProxiedQuery implements Cloneable, Serializable {
 
     private transient ProxiedConnection connection;
     private String sql;
 
-    @NonFinal
-    private transient Statement statement;
+    private PreparedStatement prepare(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, int autoGeneratedKeys, Object[] initargs)
+    throws SQLException {
+
+        PreparedSql preparedSql = proxiedStatement.getPreparedSql();
+
+        PreparedStatement statement = connection.prepareStatement(preparedSql.getSql(), autoGeneratedKeys);
+        statement.closeOnCompletion();
+
+        StatementBinder.bind(statement, preparedSql, proxiedStatement.getArgumentIndexes(), initargs);
+        return statement;
+    }
+
+    ConvenoResponseExecutor wrapResponse(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, Object[] initargs) {
+        return () -> Result.of(0, prepare(connection, proxiedStatement, Statement.NO_GENERATED_KEYS, initargs).executeQuery());
+    }
 
-    void prepare()
+    /**
+     * Execute the query by the forward-only, read-only statement
+     * with the given fetch size and wrap it into the cursor.
+     */
+    ConvenoCursor openCursor(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, int fetchSize, Object[] initargs)
     throws SQLException {
 
-        if (statement == null) {
-            statement = connection.getConnection().createStatement();
+        PreparedSql preparedSql = proxiedStatement.getPreparedSql();
+
+        PreparedStatement statement = connection.prepareStatement(preparedSql.getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+        try {
+            statement.setFetchSize(fetchSize);
+            StatementBinder.bind(statement, preparedSql, proxiedStatement.getArgumentIndexes(), initargs);
+
+            return new ConvenoCursor(this.connection.getUnsafe(), connection, statement, statement.executeQuery());
+        }
+        catch (SQLException | RuntimeException exception) {
+            statement.close();
+            throw exception;
         }
     }
 
-    void uncached()
+    ConvenoResponseExecutor wrapGeneratedKeysResponse(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, Object[] initargs) {
+        return () -> {
+            PreparedStatement statement = prepare(connection, proxiedStatement, Statement.RETURN_GENERATED_KEYS, initargs);
+            return Result.of(statement.executeUpdate(), statement.getGeneratedKeys());
+        };
+    }
+
+    private void flushBatch(PreparedStatement statement, ConvenoBatchResponse response)
     throws SQLException {
 
-        if (statement != null) {
-            statement.closeOnCompletion();
+        int[] updateCounts = statement.executeBatch();
+
+        if (response == null) {
+            return;
+        }
+
+        try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            response.addBatch(updateCounts, generatedKeys);
         }
     }
 
-    ConvenoResponseExecutor wrapResponse(ProxiedRepository repository, Parameter[] parameters, Object[] initargs) {
-        String sql = StringParser.parse(repository, this.sql, parameters, initargs);
-        return () -> Result.of(0, statement.executeQuery(sql));
+    private static Iterator<Object[]> concat(Iterator<Object[]> first, Iterator<Object[]> second) {
+        return new Iterator<Object[]>() {
+
+            @Override
+            public boolean hasNext() {
+                return first.hasNext() || second.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return first.hasNext() ? first.next() : second.next();
+            }
+        };
     }
 
-    ConvenoResponseExecutor wrapGeneratedKeysResponse(ProxiedRepository repository, Parameter[] parameters, Object[] initargs) {
-        String sql = StringParser.parse(repository, this.sql, parameters, initargs);
-        return () -> Result.of(statement.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS), statement.getGeneratedKeys());
+    /**
+     * Write the rows by the bucketed multi-row statements, until the
+     * remaining rows are too few for the smallest bucket.
+     *
+     * @return - Rows, which are not written yet.
+     */
+    private Iterator<Object[]> executeMultiRow(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, Iterator<Object[]> rowsArgs,
+                                               int rowsCount, int batchSize, ConvenoBatchResponse response)
+    throws SQLException {
+
+        MultiRowValues multiRowValues = proxiedStatement.getMultiRowValues();
+        PreparedSql preparedSql = proxiedStatement.getPreparedSql();
+
+        int[] argumentIndexes = proxiedStatement.getArgumentIndexes();
+        int autoGeneratedKeys = response != null ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS;
+
+        PreparedStatement[] statements = new PreparedStatement[multiRowValues.getBucketsCount()];
+
+        int remainingRows = rowsCount;
+        int bucketIndex;
+
+        try {
+            while ((bucketIndex = multiRowValues.toBucket(remainingRows, batchSize)) >= 0) {
+                int rows = multiRowValues.getBucketRows(bucketIndex);
+
+                // Rows of the first multi-row statement are kept for the executeBatch fallback.
+                boolean probing = proxiedStatement.getMultiRowSupported() == null;
+                List<Object[]> probedRowsArgs = probing ? new ArrayList<>(rows) : null;
+
+                PreparedStatement statement = statements[bucketIndex];
+
+                if (statement == null) {
+                    statement = connection.prepareStatement(multiRowValues.getBucketSql(bucketIndex), autoGeneratedKeys);
+                    statements[bucketIndex] = statement;
+                }
+
+                for (int row = 0; row < rows; row++) {
+                    if (!rowsArgs.hasNext()) {
+                        throw new ConcurrentModificationException("Batch parameter was modified during the execution");
+                    }
+
+                    Object[] args = rowsArgs.next();
+
+                    if (probing) {
+                        probedRowsArgs.add(args.clone());
+                    }
+
+                    StatementBinder.bind(statement, preparedSql, argumentIndexes, args, row * multiRowValues.getGroupParameters());
+                }
+
+                // failed statement aborts the open transaction on some databases (PostgreSQL),
+                // so the probe is rolled back to the savepoint before the rows are replayed.
+                Savepoint probeSavepoint = probing && !connection.getAutoCommit() ? connection.setSavepoint() : null;
+                int updateCount;
+
+                try {
+                    updateCount = statement.executeUpdate();
+                }
+                catch (SQLSyntaxErrorException | SQLFeatureNotSupportedException exception) {
+                    if (!probing) {
+                        throw exception;
+                    }
+
+                    if (probeSavepoint != null) {
+                        connection.rollback(probeSavepoint);
+                    }
+
+                    proxiedStatement.setMultiRowSupported(false);
+                    return concat(probedRowsArgs.iterator(), rowsArgs);
+                }
+
+                if (probeSavepoint != null) {
+                    connection.releaseSavepoint(probeSavepoint);
+                }
+
+                proxiedStatement.setMultiRowSupported(true);
+                remainingRows -= rows;
+
+                if (response != null) {
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        response.addMultiRow(rows, updateCount, generatedKeys);
+                    }
+                }
+            }
+        }
+        finally {
+            for (PreparedStatement statement : statements) {
+                if (statement != null) {
+                    statement.close();
+                }
+            }
+        }
+
+        return rowsArgs;
+    }
+
+    /**
+     * Write the rows by the multi-row statements when the statement is a
+     * single-row insert, and bind the rest of them into one prepared
+     * statement flushed with `executeBatch` every `batchSize` rows.
+     *
+     * @param connection       - Borrowed connection.
+     * @param proxiedStatement - Statement to execute.
+     * @param rowsArgs         - Method arguments of each row.
+     * @param rowsCount        - Rows count, or -1 when it is unknown.
+     * @param batchSize        - Rows count of the one `executeBatch` call.
+     * @param response         - Response to append the batches results, or null to skip the generated keys.
+     */
+    void executeBatch(Connection connection, ProxiedMethod.ProxiedStatement proxiedStatement, Iterator<Object[]> rowsArgs,
+                      int rowsCount, int batchSize, ConvenoBatchResponse response)
+    throws SQLException {
+
+        if (proxiedStatement.getMultiRowValues() != null && !Boolean.FALSE.equals(proxiedStatement.getMultiRowSupported())) {
+            rowsArgs = executeMultiRow(connection, proxiedStatement, rowsArgs, rowsCount, batchSize, response);
+        }
+
+        PreparedSql preparedSql = proxiedStatement.getPreparedSql();
+        int[] argumentIndexes = proxiedStatement.getArgumentIndexes();
+
+        int autoGeneratedKeys = response != null ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS;
+
+        if (!rowsArgs.hasNext()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(preparedSql.getSql(), autoGeneratedKeys)) {
+            int batchedRows = 0;
+
+            while (rowsArgs.hasNext()) {
+                StatementBinder.bind(statement, preparedSql, argumentIndexes, rowsArgs.next());
+                statement.addBatch();
+
+                if (++batchedRows == batchSize) {
+                    flushBatch(statement, response);
+                    batchedRows = 0;
+                }
+            }
+
+            if (batchedRows > 0) {
+                flushBatch(statement, response);
+            }
+        }
     }
 
     @SneakyThrows
     @Override
     public ProxiedQuery clone() {
-        return new ProxiedQuery(connection, sql, statement);
+        return new ProxiedQuery(connection, sql);
     }
 }
@@ -4,30 +4,39 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
-import net.conveno.jdbc.*;
+import net.conveno.jdbc.ConvenoAsynchronous;
+import net.conveno.jdbc.ConvenoEntityCache;
 import net.conveno.jdbc.ConvenoException;
+import net.conveno.jdbc.ConvenoTable;
+import net.conveno.jdbc.executor.ConvenoExecutorService;
+import net.conveno.jdbc.response.ConvenoColumnarResponse;
+import net.conveno.jdbc.response.ConvenoCursor;
 import net.conveno.jdbc.response.ConvenoResponse;
 import net.conveno.jdbc.response.ConvenoResponseExecutor;
-import net.conveno.jdbc.util.RepositoryValidator;
+import net.conveno.jdbc.response.ConvenoTransactionResponse;
+import net.conveno.jdbc.util.EntityStatement;
 import net.conveno.jdbc.util.SneakySupplier;
-import net.sf.cglib.proxy.MethodInterceptor;
-import net.sf.cglib.proxy.MethodProxy;
 
 import java.lang.reflect.Method;
-import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @FieldDefaults(makeFinal = true)
-public class ProxiedRepository implements MethodInterceptor {
+public class ProxiedRepository {
 
-    private static final ExecutorService THREADS_POOL_EXECUTOR = Executors.newCachedThreadPool();
+    private static final long FLUSHER_KEEP_ALIVE_SECONDS = 60L;
 
     private ProxiedConnection connection;
 
+    @Getter
+    private ConvenoExecutorService executor;
+
     @Getter
     private Class<?> sourceType;
 
@@ -35,116 +44,353 @@ public class ProxiedRepository implements MethodInterceptor {
     @Getter
     private String table;
 
-    public ProxiedRepository(ProxiedConnection connection, Class<?> sourceType) {
+    /**
+     * Responses caches of the router, which are evicted on the writes.
+     */
+    @Getter
+    private ProxiedCacheRegistry cacheRegistry;
+
+    /**
+     * Lines cache of the @ConvenoEntityCache repository, or null.
+     */
+    @Getter
+    private ProxiedEntityCache entityCache;
+
+    /**
+     * Flusher thread of the @ConvenoGroupCommit methods, created on demand.
+     */
+    @NonFinal
+    private ScheduledExecutorService flusher;
+
+    private Map<Method, ProxiedMethod> methods;
+
+    public ProxiedRepository(ProxiedConnection connection, ConvenoExecutorService executor, Class<?> sourceType) {
+        this(connection, executor, sourceType, new ProxiedCacheRegistry());
+    }
+
+    public ProxiedRepository(ProxiedConnection connection, ConvenoExecutorService executor, Class<?> sourceType,
+                             ProxiedCacheRegistry cacheRegistry) {
+
         this.connection = connection;
+        this.executor = executor;
         this.sourceType = sourceType;
+        this.cacheRegistry = cacheRegistry;
 
         if (sourceType.isAnnotationPresent(ConvenoTable.class)) {
             this.table = sourceType.getDeclaredAnnotation(ConvenoTable.class).name();
         }
+
+        this.entityCache = toEntityCache(connection, sourceType, table);
+
+        if (entityCache != null) {
+            cacheRegistry.register(entityCache);
+        }
+
+        Map<Method, ProxiedMethod> methods = new HashMap<>();
+
+        for (Method method : sourceType.getMethods()) {
+            methods.put(method, ProxiedMethod.create(this, connection, method));
+        }
+
+        this.methods = Collections.unmodifiableMap(methods);
     }
 
-    private boolean isResponseReturnNeeded(Method method) {
-        Class<?> returnType = method.getReturnType();
-        return !returnType.isPrimitive() /* void */ && List.class.isAssignableFrom(returnType);
+    private static ProxiedEntityCache toEntityCache(ProxiedConnection connection, Class<?> sourceType, String table) {
+        ConvenoEntityCache entityCache = sourceType.getDeclaredAnnotation(ConvenoEntityCache.class);
+
+        if (entityCache == null) {
+            return null;
+        }
+
+        if (table == null) {
+            throw new IllegalArgumentException("Annotation @ConvenoEntityCache requires @ConvenoTable");
+        }
+
+        if (entityCache.maxEntries() <= 0 || entityCache.ttlMillis() < 0) {
+            throw new IllegalArgumentException("Annotation @ConvenoEntityCache maxEntries must be positive, ttlMillis must not be negative");
+        }
+
+        return new ProxiedEntityCache(connection.getUnsafe(), table, entityCache);
+    }
+
+    /**
+     * Get the invocation plan of the method.
+     *
+     * @param method - Repository method.
+     * @return - A method invocation plan.
+     */
+    public ProxiedMethod getMethod(Method method) {
+        ProxiedMethod proxiedMethod = methods.get(method);
+
+        if (proxiedMethod == null) {
+            return ProxiedMethod.create(this, connection, method);
+        }
+
+        return proxiedMethod;
+    }
+
+    synchronized ScheduledExecutorService getFlusher() {
+        if (flusher == null) {
+            String threadName = "conveno-" + sourceType.getSimpleName() + "-flusher";
+
+            ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, threadName));
+            scheduledExecutor.setKeepAliveTime(FLUSHER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+            scheduledExecutor.allowCoreThreadTimeOut(true);
+
+            // pending calls are flushed by the shutdown, the deadline flushes are dropped.
+            scheduledExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+            flusher = scheduledExecutor;
+        }
+
+        return flusher;
+    }
+
+    /**
+     * Write the pending calls of all @ConvenoGroupCommit methods.
+     */
+    public void flush() {
+        for (ProxiedMethod proxiedMethod : methods.values()) {
+
+            if (proxiedMethod.getCoalescer() != null) {
+                proxiedMethod.getCoalescer().flush();
+            }
+        }
+    }
+
+    /**
+     * Write the pending calls and stop the flusher thread.
+     */
+    public void shutdown() {
+        flush();
+
+        synchronized (this) {
+            if (flusher != null) {
+                flusher.shutdown();
+            }
+        }
     }
 
     @SneakyThrows
-    private <T> T execute(Method method, SneakySupplier<T> supplier) {
-        if (RepositoryValidator.isAsynchronous(method)) {
-            ConvenoAsynchronous asynchronous = method.getDeclaredAnnotation(ConvenoAsynchronous.class);
+    private Object execute(ProxiedMethod proxiedMethod, SneakySupplier<Object> supplier) {
+        if (proxiedMethod.isFuture()) {
+            return executor.supplyAsync(supplier);
+        }
+
+        if (proxiedMethod.isAsynchronous()) {
+            ConvenoAsynchronous asynchronous = proxiedMethod.getAsynchronousAnnotation();
 
             if (asynchronous.onlySubmit()) {
-                if (isResponseReturnNeeded(method)) {
-                    throw new ConvenoException(method, "Annotation @ConvenoAsynchronous must be return nothing");
+                if (proxiedMethod.isResponseReturnNeeded()) {
+                    throw new ConvenoException(proxiedMethod.getMethod(), "Annotation @ConvenoAsynchronous must be return nothing");
                 }
 
-                THREADS_POOL_EXECUTOR.submit(() -> SneakySupplier.sneakyGet(supplier));
+                executor.supplyAsync(supplier);
                 return null;
             }
 
-            CompletableFuture<T> completableFuture = CompletableFuture.supplyAsync(() -> SneakySupplier.sneakyGet(supplier), THREADS_POOL_EXECUTOR);
+            CompletableFuture<Object> completableFuture = executor.supplyAsync(supplier);
             return asynchronous.join() ? completableFuture.join() : completableFuture.get();
         }
 
         return SneakySupplier.sneakyGet(supplier);
     }
 
-    private CacheScope getCacheScope(Method method) {
-        ConvenoCaching caching = method.getDeclaredAnnotation(ConvenoCaching.class);
-        return caching != null ? caching.scope() : null;
-    }
+    /**
+     * Evict the cached responses, which read the tables written by the method,
+     * and the entity lines written by the primary key statements.
+     *
+     * @param args - Method arguments, or null if the written lines are not known.
+     */
+    private void invalidateWrites(ProxiedMethod proxiedMethod, Object[] args) {
+        if (cacheRegistry.isEmpty()) {
+            return;
+        }
 
-    private ConvenoResponseExecutor toResponseExecutor(String sql, Method method, Object[] args)
-    throws SQLException {
+        for (ProxiedMethod.ProxiedStatement statement : proxiedMethod.getStatements()) {
 
-        CacheScope cacheScope = getCacheScope(method);
+            if (statement.isFetch()) {
+                continue;
+            }
 
-        ProxiedQuery proxiedQuery = connection.query(cacheScope, sql);
-        proxiedQuery.prepare();
+            EntityStatement entityStatement = statement.getEntityStatement();
 
-        if (cacheScope == null) {
-            proxiedQuery.uncached();
-        }
+            if (entityStatement == null || args == null) {
+                cacheRegistry.invalidate(statement.getTables());
+                continue;
+            }
 
-        return connection.execute(proxiedQuery, this, method.getParameters(), args);
+            cacheRegistry.invalidate(statement.getTables(), entityCache);
+            entityCache.evict(entityStatement, ProxiedStatementKey.toBoundValues(statement, args));
+        }
     }
 
-    private ProxiedQuery[] toTransactionQueries(Method method)
-    throws SQLException {
+    /**
+     * Evict the cached responses, which read the table written by the query,
+     * and write the line of the primary key statement through the entity cache.
+     *
+     * @param response   - Generated keys of the query, or null.
+     * @param generation - Generation of the entity cache before the query was executed.
+     */
+    private void writeThrough(ProxiedMethod proxiedMethod, Object[] args, Object response, long generation) {
+        ProxiedMethod.ProxiedStatement statement = proxiedMethod.getStatements()[0];
+        EntityStatement entityStatement = statement.getEntityStatement();
+
+        if (entityStatement == null || statement.isFetch()) {
+            invalidateWrites(proxiedMethod, null);
+            return;
+        }
 
-        List<ProxiedQuery> transactionQueries = new ArrayList<>();
+        cacheRegistry.invalidate(statement.getTables(), entityCache);
 
-        ConvenoTransaction transactionAnnotation = method.getDeclaredAnnotation(ConvenoTransaction.class);
-        CacheScope cacheScope = getCacheScope(method);
+        entityCache.write(entityStatement, ProxiedStatementKey.toBoundValues(statement, args),
+                response instanceof ConvenoResponse ? (ConvenoResponse) response : null, generation);
+    }
 
-        for (ConvenoQuery queryAnnotation : transactionAnnotation.value()) {
+    public Object invoke(ProxiedMethod proxiedMethod, Object[] args) {
+        Method method = proxiedMethod.getMethod();
+        boolean isResponseAwait = proxiedMethod.isResponseAwait();
 
-            ProxiedQuery proxiedQuery = connection.query(cacheScope, queryAnnotation.sql());
-            proxiedQuery.prepare();
+        if (isResponseAwait && !proxiedMethod.isResponseReturnNeeded()) {
+            throw new ConvenoException(method, "Method is not marked @ConvenoNonResponse, because he`s must be return nothing");
+        }
 
-            if (cacheScope == null) {
-                proxiedQuery.uncached();
-            }
+        if (proxiedMethod.getError() != null) {
+            throw proxiedMethod.getError();
+        }
 
-            transactionQueries.add(proxiedQuery);
+        if (proxiedMethod.getCoalescer() != null) {
+            CompletableFuture<Void> written = proxiedMethod.getCoalescer().submit(args);
+            return proxiedMethod.isFuture() ? written : null;
         }
 
-        return transactionQueries.toArray(new ProxiedQuery[0]);
-    }
+        ProxiedResultCache resultCache = proxiedMethod.getResultCache();
+        ProxiedSingleFlight singleFlight = proxiedMethod.getSingleFlight();
 
-    @Override
-    public Object intercept(Object o, Method method, Object[] args, MethodProxy methodProxy) {
-        boolean isResponseAwait = RepositoryValidator.canResponseReturn(method);
+        ProxiedStatementKey statementKey = null;
+        long cacheGeneration = 0;
 
-        if (isResponseAwait && !isResponseReturnNeeded(method)) {
-            throw new ConvenoException(method, "Method is not marked @ConvenoNonResponse, because he`s must be return nothing");
+        if (resultCache != null || singleFlight != null) {
+            statementKey = ProxiedStatementKey.of(proxiedMethod.getStatements()[0], args);
         }
 
-        return execute(method, () -> {
+        if (resultCache != null) {
+            cacheGeneration = resultCache.getGeneration();
+            ConvenoResponse cached = resultCache.get(statementKey);
+
+            // hits are returned without the executor.
+            if (cached != null) {
+                return proxiedMethod.isFuture() ? CompletableFuture.completedFuture(cached) : cached;
+            }
+        }
+
+        ProxiedStatementKey responseKey = statementKey;
+        long responseGeneration = cacheGeneration;
+
+        SneakySupplier<Object> supplier = () -> {
             Object response = null;
 
-            if (RepositoryValidator.isQuery(method)) {
+            if (proxiedMethod.getBatchSize() > 0) {
+
+                response = connection.borrow(sqlConnection -> connection.executeBatch(sqlConnection, proxiedMethod, args));
+                invalidateWrites(proxiedMethod, null);
+
+            } else if (proxiedMethod.getFetchSize() > 0 && isResponseAwait) {
+
+                ConvenoCursor cursor = connection.openCursor(proxiedMethod, args);
+                response = proxiedMethod.isCursorStream() ? cursor.stream() : cursor;
+
+            } else if (proxiedMethod.isQuery()) {
+
+                ProxiedMethod.ProxiedStatement statement = proxiedMethod.getStatements()[0];
+                EntityStatement entityStatement = entityCache != null ? statement.getEntityStatement() : null;
+
+                long entityGeneration = entityCache != null ? entityCache.getGeneration() : 0;
+
+                response = connection.borrow(sqlConnection -> {
+                    ConvenoResponseExecutor responseExecutor = connection.execute(sqlConnection, statement, args);
+
+                    if (resultCache != null) {
+                        return resultCache.put(responseKey, new ConvenoResponse(connection.getUnsafe(), responseExecutor), responseGeneration);
+                    }
 
-                String sql = RepositoryValidator.toStringQuery(method);
-                ConvenoResponseExecutor responseExecutor = toResponseExecutor(sql, method, args);
+                    if (singleFlight != null) {
+                        return new ConvenoResponse(connection.getUnsafe(), responseExecutor).freeze();
+                    }
+
+                    if (isResponseAwait) {
+                        return proxiedMethod.isColumnar() ? new ConvenoColumnarResponse(responseExecutor)
+                                : new ConvenoResponse(connection.getUnsafe(), responseExecutor, proxiedMethod.getMemoryBudget());
+                    }
+
+                    // generated key of the entity insert is written through the entity cache.
+                    if (entityStatement != null && entityStatement.getType() == EntityStatement.Type.INSERT && entityStatement.getIdIndex() < 0) {
+                        return new ConvenoResponse(connection.getUnsafe(), responseExecutor);
+                    }
 
-                if (isResponseAwait) {
-                    response = new ConvenoResponse(connection.getUnsafe(), responseExecutor);
-                } else {
                     responseExecutor.execute();
-                }
+                    return null;
+                });
+
+                writeThrough(proxiedMethod, args, response, entityGeneration);
 
-            } else if (RepositoryValidator.isTransaction(method)) {
+            } else if (proxiedMethod.isTransaction()) {
 
-                ProxiedTransaction transaction = new ProxiedTransaction(connection, toTransactionQueries(method));
-                response = transaction.executeQueries(this, method, args);
+                ProxiedTransaction transaction = new ProxiedTransaction(connection, proxiedMethod.getStatements());
+                ConvenoTransactionResponse transactionResponse = transaction.executeQueries(args);
+
+                response = transactionResponse;
+
+                if (transactionResponse.isCommitted()) {
+                    invalidateWrites(proxiedMethod, args);
+                }
 
             } else {
                 throw new ConvenoException(method, "Method is not marked @ConvenoQuery");
             }
 
             return isResponseAwait ? response : null;
-        });
+        };
+
+        if (singleFlight == null) {
+            return execute(proxiedMethod, supplier);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leadingFlight = singleFlight.join(responseKey, flight);
+
+        // concurrent calls of the key wait for the leading call.
+        if (leadingFlight != null) {
+            return proxiedMethod.isFuture() ? leadingFlight.thenApply(Function.identity()) : ProxiedSingleFlight.await(leadingFlight);
+        }
+
+        return leadFlight(proxiedMethod, singleFlight, responseKey, flight, supplier);
+    }
+
+    @SneakyThrows
+    private Object leadFlight(ProxiedMethod proxiedMethod, ProxiedSingleFlight singleFlight, ProxiedStatementKey key,
+                              CompletableFuture<Object> flight, SneakySupplier<Object> supplier) {
+
+        Object response;
+
+        try {
+            response = execute(proxiedMethod, () -> singleFlight.lead(key, flight, supplier));
+        }
+        catch (Throwable throwable) {
+            singleFlight.abort(key, flight, throwable);
+            throw throwable;
+        }
+
+        // rejected calls of the executor do not lead the flight.
+        if (response instanceof CompletableFuture) {
+            ((CompletableFuture<?>) response).whenComplete((__, throwable) -> {
+
+                if (throwable != null) {
+                    singleFlight.abort(key, flight, throwable);
+                }
+            });
+        }
+
+        return response;
     }
 }
@@ -0,0 +1,339 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of the frozen responses of the @ConvenoCaching method
+ * by the bound parameter values, evicted by the segmented LRU.
+ * <p>
+ * New responses are put to the probation segment and are moved to the
+ * protected segment on the second hit, so the responses, which are read
+ * once, do not evict the frequently read ones. Hits are looked up without
+ * the lock, and the segments order is updated only when the lock is free.
+ */
+@FieldDefaults(makeFinal = true)
+public class ProxiedResultCache {
+
+    /**
+     * Share of the entries and bytes of the protected segment.
+     */
+    private static final double PROTECTED_RATIO = 0.8;
+
+    @RequiredArgsConstructor
+    @FieldDefaults(makeFinal = true)
+    private static final class Entry {
+
+        private ConvenoResponse response;
+        private long expireTime;
+        private long size;
+
+        @NonFinal
+        private boolean protectedEntry;
+    }
+
+    private long ttlNanos;
+
+    @Getter
+    private int maxEntries;
+
+    @Getter
+    private long maxBytes;
+
+    /**
+     * Tables, which the statement reads, or empty set if they are not known.
+     */
+    @Getter
+    private Set<String> tables;
+
+    private Map<ProxiedStatementKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private ReentrantLock lock = new ReentrantLock();
+
+    // segments in the order from the least to the most recently used, guarded by the lock.
+    private LinkedHashMap<ProxiedStatementKey, Entry> probation = new LinkedHashMap<>();
+    private LinkedHashMap<ProxiedStatementKey, Entry> protectedSegment = new LinkedHashMap<>();
+
+    @NonFinal
+    private long protectedBytes, totalBytes;
+
+    /**
+     * Count of the clears, responses read before the last clear are not cached.
+     */
+    @NonFinal
+    @Getter
+    private volatile long generation;
+
+    private LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+    public ProxiedResultCache(long ttlMillis, int maxEntries, long maxBytes, Set<String> tables) {
+        // half of the range keeps the expire time from the overflow.
+        this.ttlNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(ttlMillis), Long.MAX_VALUE >> 1);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.tables = tables;
+    }
+
+    /**
+     * @return - A cached response of the key, or null if
+     *           the response is not cached or is expired.
+     */
+    public ConvenoResponse get(ProxiedStatementKey key) {
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expireTime >= 0) {
+            lock.lock();
+
+            try {
+                removeEntry(key, entry);
+            }
+            finally {
+                lock.unlock();
+            }
+
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+
+        // hit order is skipped while the lock is held by the other thread.
+        if (lock.tryLock()) {
+            try {
+                onHit(key, entry);
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        return entry.response;
+    }
+
+    /**
+     * Freeze and cache the response of the key, unless the
+     * cache is cleared since the response was read.
+     *
+     * @param generation - Generation of the cache before the response was read.
+     * @return - A cached response, or the frozen response if it is not cached.
+     */
+    public ConvenoResponse put(ProxiedStatementKey key, ConvenoResponse response, long generation) {
+        response.freeze();
+
+        ConvenoResponse cachedResponse = toCachedResponse(response);
+
+        if (cachedResponse == null) {
+            return response;
+        }
+
+        Entry entry = new Entry(cachedResponse, System.nanoTime() + ttlNanos, sizeOf(cachedResponse));
+
+        if (maxBytes > 0 && entry.size > maxBytes) {
+            return response;
+        }
+
+        lock.lock();
+
+        try {
+            if (generation != this.generation) {
+                return response;
+            }
+
+            Entry previous = entries.get(key);
+
+            if (previous != null) {
+                removeEntry(key, previous);
+            }
+
+            entries.put(key, entry);
+            probation.put(key, entry);
+
+            totalBytes += entry.size;
+            evict();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        return cachedResponse;
+    }
+
+    /**
+     * @param response - Frozen response.
+     * @return - A response to cache, or null if it is not cached.
+     */
+    protected ConvenoResponse toCachedResponse(ConvenoResponse response) {
+        return response;
+    }
+
+    /**
+     * @return - A size of the cached response, which is limited by the `maxBytes`.
+     */
+    protected long sizeOf(ConvenoResponse cachedResponse) {
+        return cachedResponse.getHeapSize();
+    }
+
+    /**
+     * Replace the response of the key, which is written by the repository,
+     * unless the cache is changed since the write was started, so the
+     * concurrent writes of the key evict it. The responses being read are
+     * not cached.
+     *
+     * @param generation - Generation of the cache before the write was executed.
+     */
+    public void replace(ProxiedStatementKey key, ConvenoResponse response, long generation) {
+        lock.lock();
+
+        try {
+            if (generation != this.generation) {
+                remove(key);
+                return;
+            }
+
+            put(key, response, ++this.generation);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the response of the key, the responses being read are not cached.
+     */
+    public void remove(ProxiedStatementKey key) {
+        lock.lock();
+
+        try {
+            generation++;
+            Entry entry = entries.get(key);
+
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return - A cached response of the key, or null, the hits
+     *           statistics and the segments order are not changed.
+     */
+    protected ConvenoResponse peek(ProxiedStatementKey key) {
+        Entry entry = entries.get(key);
+        return entry != null && System.nanoTime() - entry.expireTime < 0 ? entry.response : null;
+    }
+
+    /**
+     * @return - A count of the cached responses returned by the `get`.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return - A count of the `get` calls, which found no response or the expired one.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public void clear() {
+        lock.lock();
+
+        try {
+            entries.clear();
+            probation.clear();
+            protectedSegment.clear();
+
+            protectedBytes = totalBytes = 0;
+            generation++;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void onHit(ProxiedStatementKey key, Entry entry) {
+        if (entry.protectedEntry) {
+            // re-insert to move the entry to the most recently used.
+            if (protectedSegment.remove(key, entry)) {
+                protectedSegment.put(key, entry);
+            }
+
+            return;
+        }
+
+        if (!probation.remove(key, entry)) {
+            return;
+        }
+
+        entry.protectedEntry = true;
+        protectedSegment.put(key, entry);
+        protectedBytes += entry.size;
+
+        // demote the least recently used protected entries to the probation.
+        Iterator<Map.Entry<ProxiedStatementKey, Entry>> iterator = protectedSegment.entrySet().iterator();
+
+        while (protectedSegment.size() > 1 && (protectedSegment.size() > maxEntries * PROTECTED_RATIO
+                || maxBytes > 0 && protectedBytes > maxBytes * PROTECTED_RATIO)) {
+
+            Map.Entry<ProxiedStatementKey, Entry> eldest = iterator.next();
+            iterator.remove();
+
+            eldest.getValue().protectedEntry = false;
+            protectedBytes -= eldest.getValue().size;
+
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evict() {
+        while (entries.size() > maxEntries || maxBytes > 0 && totalBytes > maxBytes) {
+            LinkedHashMap<ProxiedStatementKey, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+            Map.Entry<ProxiedStatementKey, Entry> eldest = segment.entrySet().iterator().next();
+
+            removeEntry(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void removeEntry(ProxiedStatementKey key, Entry entry) {
+        if (!entries.remove(key, entry)) {
+            return;
+        }
+
+        if (entry.protectedEntry) {
+            protectedSegment.remove(key);
+            protectedBytes -= entry.size;
+        } else {
+            probation.remove(key);
+        }
+
+        totalBytes -= entry.size;
+    }
+}
@@ -0,0 +1,79 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.util.SneakySupplier;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * In-flight executions of the @ConvenoSingleFlight method by the bound
+ * parameter values. The first call of the key leads the execution, and
+ * the concurrent calls of the key wait for its response.
+ */
+@FieldDefaults(makeFinal = true)
+public class ProxiedSingleFlight {
+
+    private Map<ProxiedStatementKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Register the flight of the key, unless the other call leads it.
+     *
+     * @param key    - Key of the call.
+     * @param flight - Flight of the call.
+     * @return - A flight of the leading call, or null if the call leads the flight.
+     */
+    public CompletableFuture<Object> join(ProxiedStatementKey key, CompletableFuture<Object> flight) {
+        return flights.putIfAbsent(key, flight);
+    }
+
+    /**
+     * Execute the call, which leads the flight, and share its response.
+     *
+     * @return - A response of the call.
+     */
+    @SneakyThrows
+    public Object lead(ProxiedStatementKey key, CompletableFuture<Object> flight, SneakySupplier<Object> supplier) {
+        try {
+            Object response = supplier.get();
+            flight.complete(response);
+
+            return response;
+        }
+        catch (Throwable throwable) {
+            flight.completeExceptionally(throwable);
+            throw throwable;
+        }
+        finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Fail the flight, which call is not executed.
+     */
+    public void abort(ProxiedStatementKey key, CompletableFuture<Object> flight, Throwable throwable) {
+        flight.completeExceptionally(throwable);
+        flights.remove(key, flight);
+    }
+
+    /**
+     * Wait for the response of the leading call, or throw its error.
+     */
+    @SneakyThrows
+    public static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.get();
+        }
+        catch (ExecutionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    public int size() {
+        return flights.size();
+    }
+}
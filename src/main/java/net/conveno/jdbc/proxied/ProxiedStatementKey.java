@@ -0,0 +1,84 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.experimental.FieldDefaults;
+import net.conveno.jdbc.util.PreparedSql;
+
+import java.util.Arrays;
+
+/**
+ * Values, which the method call binds to the statement placeholders.
+ */
+@FieldDefaults(makeFinal = true)
+public final class ProxiedStatementKey {
+
+    private Object[] values;
+    private int hash;
+
+    private ProxiedStatementKey(Object[] values) {
+        this.values = values;
+        this.hash = Arrays.deepHashCode(values);
+    }
+
+    /**
+     * Create the key of the call by the values, which are bound to the statement.
+     *
+     * @param statement - Statement of the method.
+     * @param args      - Method arguments.
+     * @return - A key of the call.
+     */
+    public static ProxiedStatementKey of(ProxiedMethod.ProxiedStatement statement, Object[] args) {
+        return of(toBoundValues(statement, args));
+    }
+
+    /**
+     * Create the key by the bound values, the integral numbers are
+     * compared as longs, so the key of the int parameter matches the
+     * key of the generated long value.
+     *
+     * @param values - Bound values.
+     * @return - A key of the values.
+     */
+    public static ProxiedStatementKey of(Object... values) {
+        for (int idx = 0; idx < values.length; idx++) {
+            Object value = values[idx];
+
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                values[idx] = ((Number) value).longValue();
+            }
+        }
+
+        return new ProxiedStatementKey(values);
+    }
+
+    /**
+     * @param statement - Statement of the method.
+     * @param args      - Method arguments.
+     * @return - A value of each statement placeholder.
+     */
+    static Object[] toBoundValues(ProxiedMethod.ProxiedStatement statement, Object[] args) {
+        PreparedSql preparedSql = statement.getPreparedSql();
+
+        int[] argumentIndexes = statement.getArgumentIndexes();
+        String[] fieldNames = preparedSql.getFieldNames();
+
+        Object[] values = new Object[argumentIndexes.length];
+
+        for (int idx = 0; idx < argumentIndexes.length; idx++) {
+            Object value = args[argumentIndexes[idx]];
+            values[idx] = fieldNames[idx] != null ? preparedSql.getFieldValue(idx, value) : value;
+        }
+
+        return values;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof ProxiedStatementKey && ((ProxiedStatementKey) object).hash == hash
+                && Arrays.deepEquals(((ProxiedStatementKey) object).values, values);
+    }
+}
@@ -2,73 +2,52 @@ package net.conveno.jdbc.proxied;
 
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
 import net.conveno.jdbc.response.ConvenoResponse;
 import net.conveno.jdbc.response.ConvenoResponseExecutor;
 import net.conveno.jdbc.response.ConvenoTransactionResponse;
 
-import java.lang.reflect.Method;
-import java.sql.SQLException;
-
 @RequiredArgsConstructor
 @FieldDefaults(makeFinal = true)
 public class ProxiedTransaction {
 
     private ProxiedConnection connection;
-    private ProxiedQuery[] proxiedQueries;
-
-    @NonFinal
-    private boolean canCommit;
-
-    void begin() throws SQLException {
-
-        canCommit = true;
-        connection.getConnection().setAutoCommit(!canCommit);
-    }
+    private ProxiedMethod.ProxiedStatement[] statements;
 
-    void end() throws SQLException {
+    public ConvenoTransactionResponse executeQueries(Object[] args)
+    throws Exception {
 
-        canCommit = false;
-        connection.getConnection().setAutoCommit(!canCommit);
-    }
-
-    void rollback() throws SQLException {
+        return connection.borrow(sqlConnection -> {
 
-        canCommit = false;
-        connection.getConnection().rollback();
-    }
+            ConvenoTransactionResponse transactionResponse = new ConvenoTransactionResponse();
+            boolean canCommit = true;
 
-    void commit() throws SQLException {
-
-        if (canCommit) {
-            connection.getConnection().commit();
-        }
-    }
+            sqlConnection.setAutoCommit(false);
 
-    public synchronized ConvenoTransactionResponse executeQueries(ProxiedRepository repository, Method method, Object[] args)
-    throws SQLException {
+            for (ProxiedMethod.ProxiedStatement statement : statements) {
+                try {
+                    ConvenoResponseExecutor executor = connection.execute(sqlConnection, statement, args);
+                    transactionResponse.add(
+                            new ConvenoResponse(connection.getUnsafe(), executor)
+                    );
+                }
+                catch (Exception exception) {
+                    canCommit = false;
 
-        ConvenoTransactionResponse transactionResponse = new ConvenoTransactionResponse();
-        begin();
+                    sqlConnection.rollback();
+                    exception.printStackTrace();
 
-        for (ProxiedQuery proxiedQuery : proxiedQueries) {
-            try {
-                ConvenoResponseExecutor executor = connection.execute(proxiedQuery, repository, method.getParameters(), args);
-                transactionResponse.add(
-                        new ConvenoResponse(connection.getUnsafe(), executor)
-                );
+                    break;
+                }
             }
-            catch (Exception exception) {
-                rollback();
-                exception.printStackTrace();
 
-                break;
+            if (canCommit) {
+                sqlConnection.commit();
             }
-        }
 
-        commit();
-        end();
+            sqlConnection.setAutoCommit(true);
+            transactionResponse.setCommitted(canCommit);
 
-        return transactionResponse;
+            return transactionResponse;
+        });
     }
 }
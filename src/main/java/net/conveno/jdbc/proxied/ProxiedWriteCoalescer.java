@@ -0,0 +1,161 @@
+package net.conveno.jdbc.proxied;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pending calls queue of the @ConvenoGroupCommit method,
+ * which is drained by the repository flusher thread.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true)
+public class ProxiedWriteCoalescer {
+
+    private ProxiedConnection connection;
+    private ProxiedMethod.ProxiedStatement statement;
+
+    private ProxiedCacheRegistry cacheRegistry;
+
+    private ScheduledExecutorService flusher;
+
+    private int size;
+    private long deadlineMillis;
+
+    private Queue<PendingCall> pendingCalls = new ConcurrentLinkedQueue<>();
+
+    private AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Deadline flush is scheduled and not yet started.
+     */
+    private AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * Queue the call to the next group commit.
+     *
+     * @param args - Method arguments.
+     * @return - Future completed, when the call is committed, or exceptionally, when it is failed.
+     * @throws RejectedExecutionException - If the repository is shut down.
+     */
+    public CompletableFuture<Void> submit(Object[] args) {
+        if (flusher.isShutdown()) {
+            throw new RejectedExecutionException("Group commit call was rejected, repository is shut down");
+        }
+
+        PendingCall pendingCall = new PendingCall(args, new CompletableFuture<>());
+
+        pendingCalls.add(pendingCall);
+        int count = pendingCount.incrementAndGet();
+
+        try {
+            if (flushScheduled.compareAndSet(false, true)) {
+                flusher.schedule(this::flush, deadlineMillis, TimeUnit.MILLISECONDS);
+            }
+
+            if (count % size == 0) {
+                flusher.execute(this::flush);
+            }
+        }
+        catch (RejectedExecutionException exception) {
+            flushScheduled.set(false);
+
+            // the call is written, when the shutdown flush has already drained it.
+            if (pendingCalls.remove(pendingCall)) {
+                pendingCount.decrementAndGet();
+                throw exception;
+            }
+        }
+
+        return pendingCall.future;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Write all pending calls by the one batched
+     * statement under the single commit.
+     */
+    public synchronized void flush() {
+        // the calls queued after the flag is cleared schedule the next flush.
+        flushScheduled.set(false);
+
+        List<PendingCall> calls = new ArrayList<>();
+        PendingCall pendingCall;
+
+        while ((pendingCall = pendingCalls.poll()) != null) {
+            calls.add(pendingCall);
+        }
+
+        if (calls.isEmpty()) {
+            return;
+        }
+
+        pendingCount.addAndGet(-calls.size());
+
+        List<Object[]> rowsArgs = new ArrayList<>(calls.size());
+
+        for (PendingCall call : calls) {
+            rowsArgs.add(call.args);
+        }
+
+        try {
+            connection.executeGroupCommit(statement, rowsArgs, size);
+            cacheRegistry.invalidate(statement.getTables());
+
+            for (PendingCall call : calls) {
+                call.future.complete(null);
+            }
+        }
+        catch (ProxiedConnection.UnrolledCommitException exception) {
+            // the calls may be written partially, so they are not replayed.
+            for (PendingCall call : calls) {
+                call.future.completeExceptionally(exception);
+            }
+
+            cacheRegistry.invalidate(statement.getTables());
+        }
+        catch (Exception exception) {
+            commitEach(calls);
+        }
+    }
+
+    /**
+     * Replay the calls of the rolled back group commit one by one,
+     * so the failed call does not lose the rows of the other ones.
+     */
+    private void commitEach(List<PendingCall> calls) {
+        for (PendingCall call : calls) {
+            try {
+                connection.executeGroupCommit(statement, Collections.singletonList(call.args), 1);
+                call.future.complete(null);
+            }
+            catch (Exception exception) {
+                call.future.completeExceptionally(exception);
+            }
+        }
+
+        cacheRegistry.invalidate(statement.getTables());
+    }
+
+    @RequiredArgsConstructor
+    @FieldDefaults(makeFinal = true)
+    private static class PendingCall {
+
+        private Object[] args;
+        private CompletableFuture<Void> future;
+    }
+}
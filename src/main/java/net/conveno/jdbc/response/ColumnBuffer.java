@@ -0,0 +1,419 @@
+package net.conveno.jdbc.response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Values of the one result column, stored in a typed
+ * primitive array with the null bitmap.
+ */
+abstract class ColumnBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    protected int capacity = INITIAL_CAPACITY;
+
+    private long[] nulls = new long[1];
+
+    /**
+     * @param sqlType - JDBC type of the column.
+     * @param scale   - Digits count after the point of the DECIMAL and NUMERIC column.
+     */
+    static ColumnBuffer of(int sqlType, int scale) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return new IntColumn();
+
+            case Types.BIGINT:
+                return new LongColumn();
+
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumn();
+
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return scale >= 0 && scale < DecimalColumn.POWERS_OF_TEN.length ? new DecimalColumn(scale) : new ObjectColumn();
+
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return new BooleanColumn();
+
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return new BytesColumn();
+
+            default:
+                return new ObjectColumn();
+        }
+    }
+
+    /**
+     * Read the column value of the current row of the result.
+     */
+    void read(ResultSet resultSet, int columnIndex, int row)
+    throws SQLException {
+
+        if (row == capacity) {
+            capacity <<= 1;
+            grow(capacity);
+        }
+
+        if (!readValue(resultSet, columnIndex, row)) {
+            int word = row >>> 6;
+
+            if (word >= nulls.length) {
+                nulls = Arrays.copyOf(nulls, Math.max(word + 1, nulls.length << 1));
+            }
+
+            nulls[word] |= 1L << row;
+        }
+    }
+
+    boolean isNull(int row) {
+        int word = row >>> 6;
+        return word < nulls.length && (nulls[word] & (1L << row)) != 0;
+    }
+
+    protected abstract void grow(int capacity);
+
+    /**
+     * @return - false when the value is SQL NULL.
+     */
+    protected abstract boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException;
+
+    abstract int getInt(int row);
+
+    abstract long getLong(int row);
+
+    abstract double getDouble(int row);
+
+    abstract Object getObject(int row);
+
+    boolean getBoolean(int row) {
+        return getInt(row) != 0;
+    }
+
+    static final class IntColumn extends ColumnBuffer {
+
+        private int[] values = new int[capacity];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getInt(columnIndex);
+            return !resultSet.wasNull();
+        }
+
+        @Override
+        int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    static final class LongColumn extends ColumnBuffer {
+
+        private long[] values = new long[capacity];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getLong(columnIndex);
+            return !resultSet.wasNull();
+        }
+
+        @Override
+        int getInt(int row) {
+            return (int) values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    static final class DoubleColumn extends ColumnBuffer {
+
+        private double[] values = new double[capacity];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getDouble(columnIndex);
+            return !resultSet.wasNull();
+        }
+
+        @Override
+        int getInt(int row) {
+            return (int) values[row];
+        }
+
+        @Override
+        long getLong(int row) {
+            return (long) values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /**
+     * Decimals stored as the unscaled longs of the column scale, the values
+     * with the other scale or over the long range are kept boxed apart.
+     */
+    static final class DecimalColumn extends ColumnBuffer {
+
+        private static final long[] POWERS_OF_TEN = new long[19];
+
+        static {
+            POWERS_OF_TEN[0] = 1;
+
+            for (int idx = 1; idx < POWERS_OF_TEN.length; idx++) {
+                POWERS_OF_TEN[idx] = POWERS_OF_TEN[idx - 1] * 10;
+            }
+        }
+
+        private final int scale;
+
+        private long[] values = new long[capacity];
+
+        /**
+         * Values, which are not stored unscaled, or null.
+         */
+        private BigDecimal[] boxedValues;
+
+        DecimalColumn(int scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+
+            if (boxedValues != null) {
+                boxedValues = Arrays.copyOf(boxedValues, capacity);
+            }
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            BigDecimal value = resultSet.getBigDecimal(columnIndex);
+
+            if (value == null) {
+                return false;
+            }
+
+            try {
+                values[row] = value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            }
+            catch (ArithmeticException exception) {
+                if (boxedValues == null) {
+                    boxedValues = new BigDecimal[capacity];
+                }
+
+                boxedValues[row] = value;
+            }
+
+            return true;
+        }
+
+        private BigDecimal boxedValue(int row) {
+            return boxedValues != null ? boxedValues[row] : null;
+        }
+
+        @Override
+        int getInt(int row) {
+            return (int) getLong(row);
+        }
+
+        @Override
+        long getLong(int row) {
+            BigDecimal boxedValue = boxedValue(row);
+            return boxedValue != null ? boxedValue.longValue() : values[row] / POWERS_OF_TEN[scale];
+        }
+
+        @Override
+        double getDouble(int row) {
+            BigDecimal boxedValue = boxedValue(row);
+            return boxedValue != null ? boxedValue.doubleValue() : (double) values[row] / POWERS_OF_TEN[scale];
+        }
+
+        @Override
+        Object getObject(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+
+            BigDecimal boxedValue = boxedValue(row);
+            return boxedValue != null ? boxedValue : BigDecimal.valueOf(values[row], scale);
+        }
+    }
+
+    static final class BooleanColumn extends ColumnBuffer {
+
+        private boolean[] values = new boolean[capacity];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getBoolean(columnIndex);
+            return !resultSet.wasNull();
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values[row];
+        }
+
+        @Override
+        int getInt(int row) {
+            return values[row] ? 1 : 0;
+        }
+
+        @Override
+        long getLong(int row) {
+            return getInt(row);
+        }
+
+        @Override
+        double getDouble(int row) {
+            return getInt(row);
+        }
+
+        @Override
+        Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    static final class BytesColumn extends ColumnBuffer {
+
+        private byte[][] values = new byte[capacity][];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getBytes(columnIndex);
+            return values[row] != null;
+        }
+
+        @Override
+        int getInt(int row) {
+            throw new ClassCastException("Binary column is not numeric");
+        }
+
+        @Override
+        long getLong(int row) {
+            throw new ClassCastException("Binary column is not numeric");
+        }
+
+        @Override
+        double getDouble(int row) {
+            throw new ClassCastException("Binary column is not numeric");
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+    }
+
+    static final class ObjectColumn extends ColumnBuffer {
+
+        private Object[] values = new Object[capacity];
+
+        @Override
+        protected void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected boolean readValue(ResultSet resultSet, int columnIndex, int row) throws SQLException {
+            values[row] = resultSet.getObject(columnIndex);
+            return values[row] != null;
+        }
+
+        // SQL NULL reads as 0, like the primitive columns.
+
+        @Override
+        int getInt(int row) {
+            return values[row] != null ? ((Number) values[row]).intValue() : 0;
+        }
+
+        @Override
+        long getLong(int row) {
+            return values[row] != null ? ((Number) values[row]).longValue() : 0;
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row] != null ? ((Number) values[row]).doubleValue() : 0;
+        }
+
+        @Override
+        Object getObject(int row) {
+            return values[row];
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package net.conveno.jdbc.response;
+
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import sun.misc.Unsafe;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Response of the @ConvenoBatch method, which lines
+ * are the generated keys of the inserted rows.
+ */
+@FieldDefaults(makeFinal = true)
+public class ConvenoBatchResponse extends ConvenoResponse {
+
+    private static final int[] EMPTY_UPDATE_COUNTS = new int[0];
+
+    @NonFinal
+    private int[] updateCounts = EMPTY_UPDATE_COUNTS;
+
+    public ConvenoBatchResponse(Unsafe unsafe) {
+        super(unsafe);
+    }
+
+    private void addUpdateCounts(int[] batchUpdateCounts, int affectedRows, ResultSet generatedKeys)
+    throws SQLException {
+
+        int offset = updateCounts.length;
+
+        updateCounts = Arrays.copyOf(updateCounts, offset + batchUpdateCounts.length);
+        System.arraycopy(batchUpdateCounts, 0, updateCounts, offset, batchUpdateCounts.length);
+
+        addResult(Result.of(affectedRows, generatedKeys));
+    }
+
+    /**
+     * Append the result of the one `executeBatch` call.
+     *
+     * @param batchUpdateCounts - Update count of each batched row.
+     * @param generatedKeys     - Generated keys of the batched rows.
+     */
+    public void addBatch(int[] batchUpdateCounts, ResultSet generatedKeys)
+    throws SQLException {
+
+        int affectedRows = 0;
+
+        for (int updateCount : batchUpdateCounts) {
+            if (updateCount > 0) {
+                affectedRows += updateCount;
+            }
+        }
+
+        addUpdateCounts(batchUpdateCounts, affectedRows, generatedKeys);
+    }
+
+    /**
+     * Append the result of the one multi-row statement.
+     *
+     * @param rows          - Rows count of the statement.
+     * @param updateCount   - Update count of the statement.
+     * @param generatedKeys - Generated keys of the rows.
+     */
+    public void addMultiRow(int rows, int updateCount, ResultSet generatedKeys)
+    throws SQLException {
+
+        int[] rowsUpdateCounts = new int[rows];
+        Arrays.fill(rowsUpdateCounts, updateCount == rows ? 1 : Statement.SUCCESS_NO_INFO);
+
+        addUpdateCounts(rowsUpdateCounts, updateCount, generatedKeys);
+    }
+
+    /**
+     * @return - Update count of each row in the order of the batch parameter,
+     *          or {@link Statement#SUCCESS_NO_INFO} when the driver does not know it.
+     */
+    public int[] getUpdateCounts() {
+        return updateCounts.clone();
+    }
+
+    public int getBatchedRows() {
+        return updateCounts.length;
+    }
+}
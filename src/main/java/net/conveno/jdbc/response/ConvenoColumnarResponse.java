@@ -0,0 +1,124 @@
+package net.conveno.jdbc.response;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Response, which stores each column in a typed primitive array with the
+ * null bitmap. Numeric cells are read by the `*Unchecked` accessors without
+ * boxing: they do not check the null bitmap, so an SQL NULL reads as 0.
+ * DECIMAL and NUMERIC cells are stored as the unscaled longs and are
+ * boxed to BigDecimal only by `getObject`.
+ * <p>
+ * Rows and columns are indexed from 0 and 1, like JDBC.
+ */
+@FieldDefaults(makeFinal = true)
+public class ConvenoColumnarResponse {
+
+    @Getter
+    private int affectedRows;
+
+    @Getter
+    private ConvenoResponseSchema schema;
+
+    private ColumnBuffer[] columnBuffers;
+
+    @NonFinal
+    private int rows;
+
+    public ConvenoColumnarResponse(ConvenoResponseExecutor executor)
+    throws SQLException {
+
+        Result result = executor.execute();
+        this.affectedRows = result.getAffectedRows();
+
+        try (ResultSet resultSet = result.getResultSet()) {
+            ResultSetMetaData metadata = resultSet.getMetaData();
+
+            this.schema = ConvenoResponseSchema.of(metadata);
+            this.columnBuffers = new ColumnBuffer[schema.getColumns() + 1];
+
+            for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+                columnBuffers[columnIndex] = ColumnBuffer.of(metadata.getColumnType(columnIndex), metadata.getScale(columnIndex));
+            }
+
+            while (resultSet.next()) {
+                for (int columnIndex = 1; columnIndex < columnBuffers.length; columnIndex++) {
+                    columnBuffers[columnIndex].read(resultSet, columnIndex, rows);
+                }
+
+                rows++;
+            }
+        }
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    public int getColumns() {
+        return schema.getColumns();
+    }
+
+    public int findIndex(@NonNull String label) {
+        return schema.findIndex(label);
+    }
+
+    private ColumnBuffer column(int row, int column) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Row " + row + " is not found");
+        }
+
+        if (column <= 0 || column >= columnBuffers.length) {
+            throw new IndexOutOfBoundsException("Column " + column + " is not found");
+        }
+
+        return columnBuffers[column];
+    }
+
+    public boolean isNull(int row, int column) {
+        return column(row, column).isNull(row);
+    }
+
+    public int getIntUnchecked(int row, int column) {
+        return column(row, column).getInt(row);
+    }
+
+    public long getLongUnchecked(int row, int column) {
+        return column(row, column).getLong(row);
+    }
+
+    public double getDoubleUnchecked(int row, int column) {
+        return column(row, column).getDouble(row);
+    }
+
+    public boolean getBooleanUnchecked(int row, int column) {
+        return column(row, column).getBoolean(row);
+    }
+
+    /**
+     * @return - A cell value, boxed for the primitive columns, or null.
+     */
+    public Object getObject(int row, int column) {
+        return column(row, column).getObject(row);
+    }
+
+    public String getString(int row, int column) {
+        Object value = getObject(row, column);
+        return value != null ? value.toString() : null;
+    }
+
+    public byte[] getBytes(int row, int column) {
+        return (byte[]) getObject(row, column);
+    }
+}
@@ -0,0 +1,176 @@
+package net.conveno.jdbc.response;
+
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import sun.misc.Unsafe;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Forward-only response, which reads the lines lazily and holds its
+ * connection until the cursor is exhausted or closed.
+ * <p>
+ * BLOB and CLOB values are read as the lazy ConvenoLob handles.
+ */
+@FieldDefaults(makeFinal = true)
+public class ConvenoCursor implements Iterator<ConvenoResponseLine>, AutoCloseable {
+
+    private Unsafe unsafe;
+
+    private Connection connection;
+    private Statement statement;
+    private ResultSet resultSet;
+
+    private ConvenoResponseSchema schema;
+
+    @NonFinal
+    private int index;
+
+    @NonFinal
+    private boolean fetched, closed;
+
+    public ConvenoCursor(Unsafe unsafe, Connection connection, Statement statement, ResultSet resultSet)
+    throws SQLException {
+
+        this.unsafe = unsafe;
+
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+
+        this.schema = ConvenoResponseSchema.of(resultSet.getMetaData());
+    }
+
+    @SneakyThrows
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (!fetched) {
+            fetched = resultSet.next();
+
+            if (!fetched) {
+                close();
+            }
+        }
+
+        return fetched;
+    }
+
+    @SneakyThrows
+    @Override
+    public ConvenoResponseLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Cursor is exhausted");
+        }
+
+        fetched = false;
+        return ConvenoResponse.readLine(resultSet, schema, index++, true);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return - A sequential stream of the remaining lines, which closes the cursor on close.
+     */
+    public Stream<ConvenoResponseLine> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    private <T> T unsafeAllocate(Class<T> adaptiveType) {
+        try {
+            @SuppressWarnings("unchecked") T allocateInstance = (T) unsafe.allocateInstance(adaptiveType);
+            return allocateInstance;
+        }
+        catch (InstantiationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>> Stream<R> stream(Class<T> adaptiveType) {
+        T adapter = unsafeAllocate(adaptiveType);
+        return stream().map(adapter::convert);
+    }
+
+    /**
+     * @param type - Type of the mapped objects.
+     * @return - A sequential stream of the remaining lines mapped by the columns
+     *           bound to the constructor parameters or fields of the type.
+     */
+    public <R> Stream<R> map(Class<R> type) {
+        ConvenoRowMapper<R> mapper = ConvenoRowMapper.of(unsafe, type, schema);
+        return stream().map(mapper::map);
+    }
+
+    /**
+     * Write the remaining rows straight from the result set to the output
+     * stream, without reading them to the lines, and close the cursor.
+     *
+     * @param output - Stream to write to, which is flushed but not closed.
+     * @param format - Text format of the rows.
+     * @return - A written rows count.
+     */
+    @SneakyThrows
+    public long writeTo(OutputStream output, ConvenoFormat format) {
+        long rows = 0;
+
+        try {
+            RowWriter writer = new RowWriter(output, schema, format);
+
+            // the row fetched by `hasNext` is not read yet.
+            for (boolean hasRow = !closed && (fetched || resultSet.next()); hasRow; hasRow = resultSet.next()) {
+                writer.writeRow(resultSet);
+                rows++;
+            }
+
+            fetched = false;
+            index += (int) rows;
+
+            writer.flush();
+            return rows;
+        }
+        finally {
+            close();
+        }
+    }
+
+    /**
+     * Close the result set and statement and
+     * give the connection back to the pool.
+     */
+    @SneakyThrows
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            resultSet.close();
+            statement.close();
+
+            connection.setAutoCommit(true);
+        }
+        finally {
+            connection.close();
+        }
+    }
+}
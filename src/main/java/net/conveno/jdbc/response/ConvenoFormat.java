@@ -0,0 +1,20 @@
+package net.conveno.jdbc.response;
+
+/**
+ * Text format of the response lines written to the output stream.
+ * <p>
+ * Strings, dates and other values are written by their `toString`, and
+ * binary values as Base64, by the both formats. Text is encoded in UTF-8.
+ */
+public enum ConvenoFormat {
+
+    /**
+     * JSON object of each line by its column labels, ended by `\n`.
+     */
+    JSON_LINES,
+
+    /**
+     * RFC 4180 comma-separated values with the header of the column labels.
+     */
+    CSV
+}
@@ -0,0 +1,164 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+
+/**
+ * Lazy handle of the BLOB or CLOB value of the cursor line, which
+ * reads the value by chunks instead of copying it to the heap.
+ * <p>
+ * The handle is valid until the cursor is closed.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ConvenoLob {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 << 10;
+
+    /**
+     * Binary value, or null.
+     */
+    private Blob blob;
+
+    /**
+     * Characters value, or null.
+     */
+    private Clob clob;
+
+    public boolean isBinary() {
+        return blob != null;
+    }
+
+    /**
+     * @return - A bytes count of the BLOB or characters count of the CLOB.
+     */
+    @SneakyThrows
+    public long length() {
+        return blob != null ? blob.length() : clob.length();
+    }
+
+    private void checkBinary() {
+        if (blob == null) {
+            throw new IllegalStateException("Characters LOB is read by the reader");
+        }
+    }
+
+    @SneakyThrows
+    public InputStream openStream() {
+        checkBinary();
+        return blob.getBinaryStream();
+    }
+
+    public ReadableByteChannel openChannel() {
+        return Channels.newChannel(openStream());
+    }
+
+    /**
+     * @return - A reader of the CLOB characters, or of the BLOB bytes decoded from UTF-8.
+     */
+    @SneakyThrows
+    public Reader openReader() {
+        return blob != null ? new InputStreamReader(blob.getBinaryStream(), StandardCharsets.UTF_8) : clob.getCharacterStream();
+    }
+
+    /**
+     * Copy the value to the channel by the fixed-size chunks,
+     * the CLOB characters are encoded in UTF-8.
+     *
+     * @param target - Channel to copy to, which is not closed.
+     * @return - A bytes count of the BLOB or characters count of the CLOB.
+     */
+    @SneakyThrows
+    public long transferTo(WritableByteChannel target) {
+        long transferred = 0;
+
+        if (blob == null) {
+            Writer writer = Channels.newWriter(target, StandardCharsets.UTF_8.newEncoder(), TRANSFER_BUFFER_SIZE);
+
+            try (Reader reader = clob.getCharacterStream()) {
+                char[] chars = new char[TRANSFER_BUFFER_SIZE / 2];
+
+                for (int count = reader.read(chars); count >= 0; count = reader.read(chars)) {
+                    writer.write(chars, 0, count);
+                    transferred += count;
+                }
+            }
+
+            // flush, but do not close the target channel.
+            writer.flush();
+            return transferred;
+        }
+
+        try (ReadableByteChannel source = openChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+
+            while (source.read(buffer) >= 0 || buffer.position() > 0) {
+                ((Buffer) buffer).flip();
+
+                transferred += target.write(buffer);
+                buffer.compact();
+            }
+        }
+
+        return transferred;
+    }
+
+    public long transferTo(OutputStream output) {
+        return transferTo(Channels.newChannel(output));
+    }
+
+    /**
+     * @return - A whole BLOB value, or CLOB value encoded in UTF-8.
+     */
+    @SneakyThrows
+    public byte[] toBytes() {
+        return blob != null ? blob.getBytes(1, (int) blob.length()) : readString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return - A whole CLOB value, or BLOB value decoded from UTF-8.
+     */
+    @SneakyThrows
+    public String readString() {
+        return clob != null ? clob.getSubString(1, (int) clob.length()) : new String(toBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Convert the value to the requested type of the response line.
+     */
+    <T> T as(Class<T> type) {
+        if (type == byte[].class) {
+            return type.cast(toBytes());
+        }
+
+        return type == String.class ? type.cast(readString()) : type.cast(this);
+    }
+
+    /**
+     * Release the database resources of the value.
+     */
+    @SneakyThrows
+    public void free() {
+        if (blob != null) {
+            blob.free();
+        } else {
+            clob.free();
+        }
+    }
+}
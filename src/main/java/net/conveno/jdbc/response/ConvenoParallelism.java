@@ -0,0 +1,69 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Settings of the response mapping, which runs on the fork-join
+ * pool once the response has at least `threshold` lines.
+ */
+@Getter
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConvenoParallelism {
+
+    public static final ConvenoParallelism SEQUENTIAL = new ConvenoParallelism(Integer.MAX_VALUE, true, null);
+
+    /**
+     * Lines count of the response, from which the mapping runs in parallel.
+     */
+    private int threshold;
+
+    /**
+     * Mapped values keep the order of the response lines.
+     */
+    private boolean ordered;
+
+    /**
+     * Pool of the mapping, or null for the common pool.
+     */
+    private ForkJoinPool pool;
+
+    public static ConvenoParallelism of(int threshold, boolean ordered) {
+        return of(threshold, ordered, null);
+    }
+
+    public static ConvenoParallelism of(int threshold, boolean ordered, ForkJoinPool pool) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Parallelism threshold must be positive");
+        }
+
+        return new ConvenoParallelism(threshold, ordered, pool);
+    }
+
+    public boolean isParallel(int linesCount) {
+        return linesCount >= threshold;
+    }
+
+    /**
+     * Run the terminal operation of the parallel stream, so
+     * its tasks are forked in the pool of the parallelism.
+     *
+     * @param operation - Terminal operation of the mapping.
+     * @return - An operation result.
+     */
+    @SneakyThrows
+    <C> C execute(Callable<C> operation) {
+        if (pool == null || ForkJoinPool.commonPool() == pool) {
+            return operation.call();
+        }
+
+        return pool.submit(operation).join();
+    }
+}
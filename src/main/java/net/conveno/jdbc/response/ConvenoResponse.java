@@ -1,82 +1,594 @@
 package net.conveno.jdbc.response;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import sun.misc.Unsafe;
 
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @FieldDefaults(makeFinal = true)
-public class ConvenoResponse extends ArrayList<ConvenoResponseLine> {
+public class ConvenoResponse extends ArrayList<ConvenoResponseLine> implements AutoCloseable {
 
     private Unsafe unsafe;
 
+    @NonFinal
     @Getter
     private int affectedRows;
 
+    /**
+     * Heap size of the lines, over which the lines are spilled, or 0.
+     */
+    private long memoryBudget;
+
+    @NonFinal
+    private long heapSize;
+
+    /**
+     * Columns of the first result, or null.
+     */
+    @NonFinal
+    private ConvenoResponseSchema schema;
+
+    /**
+     * Lines over the memory budget, or null.
+     */
+    @NonFinal
+    private SpillStore spillStore;
+
+    /**
+     * Encoded lines of the off-heap response, or null.
+     */
+    @NonFinal
+    private OffHeapStore offHeapStore;
+
+    /**
+     * View of the heap and spilled lines of the spilled
+     * or frozen response, or null.
+     */
+    @NonFinal
+    private List<ConvenoResponseLine> lines;
+
+    @NonFinal
+    private boolean frozen;
+
+    protected ConvenoResponse(Unsafe unsafe) {
+        this(unsafe, 0);
+    }
+
+    protected ConvenoResponse(Unsafe unsafe, long memoryBudget) {
+        this.unsafe = unsafe;
+        this.memoryBudget = memoryBudget;
+    }
+
     public ConvenoResponse(Unsafe unsafe, ConvenoResponseExecutor executor)
     throws SQLException {
 
-        this.unsafe = unsafe;
+        this(unsafe, executor, 0);
+    }
 
-        Result result = executor.execute();
-        this.affectedRows = result.getAffectedRows();
+    /**
+     * @param memoryBudget - Heap size of the lines in bytes, over which the rest
+     *                       lines are spilled to a temporary file, or 0.
+     */
+    public ConvenoResponse(Unsafe unsafe, ConvenoResponseExecutor executor, long memoryBudget)
+    throws SQLException {
 
-        addAll(result.getResultSet().getMetaData(), result.getResultSet());
+        this(unsafe, memoryBudget);
+        addResult(executor.execute());
+    }
+
+    /**
+     * Append the result lines and affected rows to the response.
+     *
+     * @param result - Statement execution result.
+     */
+    protected void addResult(Result result)
+    throws SQLException {
+
+        affectedRows += result.getAffectedRows();
+
+        try (ResultSet resultSet = result.getResultSet()) {
+            addAll(resultSet.getMetaData(), resultSet);
+        }
     }
 
     private void addAll(ResultSetMetaData metadata, ResultSet executionResult)
     throws SQLException {
 
-        int columns = metadata.getColumnCount();
-        int index = 0;
+        ConvenoResponseSchema schema = ConvenoResponseSchema.of(metadata);
+        int index = size();
 
-        ConvenoResponseLine prev = null;
+        if (this.schema == null) {
+            this.schema = schema;
+        }
+
+        ConvenoResponseLine prev = spillStore == null ? last() : null;
 
         while (executionResult.next()) {
 
-            ConvenoResponseLine responseLine = new ConvenoResponseLine(index == 0, index == (columns - 1));
-            injectResponseLine(responseLine, executionResult, metadata, columns);
+            ConvenoResponseLine responseLine = readLine(executionResult, schema, index, false);
+            index++;
+
+            if (spillStore == null && memoryBudget > 0 && (heapSize += SpillStore.estimateSize(responseLine.getValues())) > memoryBudget) {
+                spill();
+            }
+
+            if (spillStore != null) {
+                spillStore.add(responseLine);
+                continue;
+            }
 
             if (prev != null) {
                 prev.setNext(responseLine);
             }
 
             super.add(responseLine);
-
             prev = responseLine;
-            index++;
         }
     }
 
-    private void injectResponseLine(ConvenoResponseLine responseLine, ResultSet executionResult, ResultSetMetaData metadata, int columns)
+    private void spill() {
+        spillStore = SpillStore.create(this);
+        lines = new LinesView();
+    }
+
+    /**
+     * @return - true if the lines over the memory budget are spilled to a temporary
+     *           file. Spilled lines are read back on each access and are not linked
+     *           by the `nextLine`, the response does not accept the changes.
+     */
+    public boolean isSpilled() {
+        return spillStore != null;
+    }
+
+    /**
+     * Make the response and its lines read-only, so that the response
+     * may be shared by the threads without copying. Each access to the frozen
+     * line returns its own view, which keeps the `next` reading position.
+     *
+     * @return - This response.
+     */
+    public ConvenoResponse freeze() {
+        if (frozen) {
+            return this;
+        }
+
+        for (int index = 0; index < super.size(); index++) {
+            ConvenoResponseLine responseLine = super.get(index);
+            responseLine.freeze();
+
+            if (memoryBudget == 0) {
+                heapSize += SpillStore.estimateSize(responseLine.getValues());
+            }
+        }
+
+        if (lines == null) {
+            lines = new LinesView();
+        }
+
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * @return - An estimated heap size of the lines, which is
+     *           known when the response is frozen or has a memory budget.
+     */
+    public long getHeapSize() {
+        return heapSize;
+    }
+
+    /**
+     * Copy the lines to the frozen response, which keeps them encoded in a direct
+     * buffer out of the heap and decodes the line on each access. Decoded lines
+     * are not linked by the `nextLine`.
+     *
+     * @param deflate - Deflate the blocks of the lines.
+     * @return - An off-heap response, or null if the encoded lines exceed 2GB.
+     */
+    public ConvenoResponse toOffHeap(boolean deflate) {
+        OffHeapStore offHeapStore = OffHeapStore.of(this, deflate);
+
+        if (offHeapStore == null) {
+            return null;
+        }
+
+        ConvenoResponse response = new ConvenoResponse(unsafe);
+
+        response.affectedRows = affectedRows;
+        response.schema = schema;
+        response.offHeapStore = offHeapStore;
+
+        return response.freeze();
+    }
+
+    public boolean isOffHeap() {
+        return offHeapStore != null;
+    }
+
+    /**
+     * @return - A size of the encoded lines of the off-heap response in bytes, or 0.
+     */
+    public long getOffHeapSize() {
+        return offHeapStore != null ? offHeapStore.getMemorySize() : 0;
+    }
+
+    /**
+     * @return - Columns of the first result, or null if the response has no result.
+     */
+    public ConvenoResponseSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Create the frozen response of the one line, which
+     * the database would read by the columns of the schema.
+     *
+     * @param schema - Columns of the line.
+     * @param values - Value of each lower-case column label.
+     * @return - A frozen response, or null if a column value
+     *           is missing or is not converted to the column type.
+     */
+    public static ConvenoResponse ofLine(Unsafe unsafe, ConvenoResponseSchema schema, Map<String, Object> values) {
+        Object[] lineValues = new Object[schema.getColumns() + 1];
+
+        for (int columnIndex = 1; columnIndex < lineValues.length; columnIndex++) {
+            String label = schema.findLabel(columnIndex);
+
+            if (!values.containsKey(label)) {
+                return null;
+            }
+
+            Object value = values.get(label);
+
+            if (value != null && (value = toColumnValue(value, schema.getType(columnIndex))) == null) {
+                return null;
+            }
+
+            lineValues[columnIndex] = value;
+        }
+
+        ConvenoResponse response = new ConvenoResponse(unsafe);
+        response.schema = schema;
+        response.add(new ConvenoResponseLine(true, true, schema, lineValues));
+
+        return response.freeze();
+    }
+
+    /**
+     * Convert the bound value to the type of the `getObject` value of the column.
+     *
+     * @param type - SQL type of the column.
+     * @return - A converted value, or null if it is not supported.
+     */
+    private static Object toColumnValue(Object value, int type) {
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return value instanceof Integer || value instanceof Short || value instanceof Byte ? ((Number) value).intValue() : null;
+
+            case Types.BIGINT:
+                return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                        ? ((Number) value).longValue() : null;
+
+            case Types.REAL:
+                return value instanceof Float ? value : null;
+
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return value instanceof Double || value instanceof Float ? ((Number) value).doubleValue() : null;
+
+            case Types.BOOLEAN:
+            case Types.BIT:
+                return value instanceof Boolean ? value : null;
+
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NVARCHAR:
+                return value instanceof String ? value : value instanceof Enum ? ((Enum<?>) value).name() : null;
+
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return value instanceof byte[] ? ((byte[]) value).clone() : null;
+
+            case Types.TIMESTAMP:
+                return value instanceof java.sql.Timestamp ? value : null;
+
+            case Types.DATE:
+                return value instanceof java.sql.Date ? value : null;
+
+            case Types.TIME:
+                return value instanceof java.sql.Time ? value : null;
+
+            default:
+                // decimals and chars are read with the scale and length of the column.
+                return null;
+        }
+    }
+
+    /**
+     * Read-only view of the heap lines, followed by the spilled lines.
+     */
+    private final class LinesView extends AbstractList<ConvenoResponseLine> implements RandomAccess {
+
+        @Override
+        public ConvenoResponseLine get(int index) {
+            int heapLines = ConvenoResponse.super.size();
+
+            if (index < heapLines) {
+                ConvenoResponseLine responseLine = ConvenoResponse.super.get(index);
+                return responseLine.isFrozen() ? responseLine.view() : responseLine;
+            }
+
+            return spillStore != null ? spillStore.get(index - heapLines)
+                    : offHeapStore != null ? offHeapStore.get(index - heapLines) : ConvenoResponse.super.get(index);
+        }
+
+        @Override
+        public int size() {
+            return ConvenoResponse.super.size() + (spillStore != null ? spillStore.size() : 0)
+                    + (offHeapStore != null ? offHeapStore.size() : 0);
+        }
+    }
+
+    private void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen response does not accept the changes");
+        }
+
+        if (spillStore != null) {
+            throw new UnsupportedOperationException("Spilled response does not accept the changes");
+        }
+    }
+
+    // *------------------------------------------------- * //
+
+    @Override
+    public int size() {
+        return lines == null ? super.size() : lines.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public ConvenoResponseLine get(int index) {
+        return lines == null ? super.get(index) : lines.get(index);
+    }
+
+    @Override
+    public Iterator<ConvenoResponseLine> iterator() {
+        return lines == null ? super.iterator() : lines.iterator();
+    }
+
+    @Override
+    public ListIterator<ConvenoResponseLine> listIterator() {
+        return lines == null ? super.listIterator() : lines.listIterator();
+    }
+
+    @Override
+    public ListIterator<ConvenoResponseLine> listIterator(int index) {
+        return lines == null ? super.listIterator(index) : lines.listIterator(index);
+    }
+
+    @Override
+    public Spliterator<ConvenoResponseLine> spliterator() {
+        return lines == null ? super.spliterator() : lines.spliterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super ConvenoResponseLine> action) {
+        if (lines == null) {
+            super.forEach(action);
+        } else {
+            lines.forEach(action);
+        }
+    }
+
+    @Override
+    public List<ConvenoResponseLine> subList(int fromIndex, int toIndex) {
+        return lines == null ? super.subList(fromIndex, toIndex) : lines.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return lines == null ? super.toArray() : lines.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return lines == null ? super.toArray(array) : lines.toArray(array);
+    }
+
+    @Override
+    public int indexOf(Object object) {
+        return lines == null ? super.indexOf(object) : lines.indexOf(object);
+    }
+
+    @Override
+    public int lastIndexOf(Object object) {
+        return lines == null ? super.lastIndexOf(object) : lines.lastIndexOf(object);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return lines == null ? super.equals(object) : lines.equals(object);
+    }
+
+    @Override
+    public int hashCode() {
+        return lines == null ? super.hashCode() : lines.hashCode();
+    }
+
+    @Override
+    public boolean add(ConvenoResponseLine responseLine) {
+        checkModifiable();
+        return super.add(responseLine);
+    }
+
+    @Override
+    public void add(int index, ConvenoResponseLine responseLine) {
+        checkModifiable();
+        super.add(index, responseLine);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends ConvenoResponseLine> collection) {
+        checkModifiable();
+        return super.addAll(collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends ConvenoResponseLine> collection) {
+        checkModifiable();
+        return super.addAll(index, collection);
+    }
+
+    @Override
+    public ConvenoResponseLine set(int index, ConvenoResponseLine responseLine) {
+        checkModifiable();
+        return super.set(index, responseLine);
+    }
+
+    @Override
+    public ConvenoResponseLine remove(int index) {
+        checkModifiable();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        checkModifiable();
+        return super.remove(object);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        checkModifiable();
+        return super.removeAll(collection);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        checkModifiable();
+        return super.retainAll(collection);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super ConvenoResponseLine> filter) {
+        checkModifiable();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<ConvenoResponseLine> operator) {
+        checkModifiable();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super ConvenoResponseLine> comparator) {
+        checkModifiable();
+        super.sort(comparator);
+    }
+
+    /**
+     * Delete the spill file of the response, its spilled lines are not readable after.
+     * Frozen response is shared by the callers and its file is deleted, when it is collected.
+     */
+    @Override
+    public void close() {
+        if (spillStore != null && !frozen) {
+            clear();
+        }
+    }
+
+    /**
+     * Remove all lines and delete the spill file of the response.
+     */
+    @Override
+    public void clear() {
+        if (frozen) {
+            checkModifiable();
+        }
+
+        if (spillStore != null) {
+            spillStore.close();
+
+            spillStore = null;
+            lines = null;
+        }
+
+        heapSize = 0;
+        super.clear();
+    }
+
+    // *------------------------------------------------- * //
+
+    /**
+     * Read the line of the result, the BLOB and CLOB values are copied to the heap
+     * as byte[] and String, or are wrapped by the lazy ConvenoLob handles.
+     */
+    static ConvenoResponseLine readLine(ResultSet executionResult, ConvenoResponseSchema schema, int index, boolean lazyLobs)
     throws SQLException {
 
-        // create caches data.
-        Map<String, Integer> indexByLabelsMap = new HashMap<>();
-        Set<Integer> nullableIndexes = new HashSet<>();
+        int columns = schema.getColumns();
+        Object[] values = new Object[columns + 1];
 
-        // init columns data.
         for (int columnIndex = 1; columnIndex <= columns; columnIndex++) {
-            String name = metadata.getColumnName(columnIndex);
+            values[columnIndex] = schema.hasLobs() && schema.isLob(columnIndex)
+                    ? readLob(executionResult, columnIndex, schema.getType(columnIndex) == Types.BLOB, lazyLobs)
+                    : executionResult.getObject(columnIndex);
+        }
 
-            indexByLabelsMap.put(name.toLowerCase(), columnIndex);
+        return new ConvenoResponseLine(index == 0, index == (columns - 1), schema, values);
+    }
 
-            if (metadata.isNullable(columnIndex) == ResultSetMetaData.columnNullable) {
-                nullableIndexes.add(columnIndex);
-            }
+    private static Object readLob(ResultSet executionResult, int columnIndex, boolean binary, boolean lazy)
+    throws SQLException {
 
-            responseLine.set(columnIndex, executionResult.getObject(columnIndex));
+        if (!lazy) {
+            return binary ? executionResult.getBytes(columnIndex) : executionResult.getString(columnIndex);
         }
 
-        // set metadata values for response-line.
-        responseLine.setIndexByLabelsMap(indexByLabelsMap);
-        responseLine.setNullableIndexes(nullableIndexes);
+        if (binary) {
+            Blob blob = executionResult.getBlob(columnIndex);
+            return blob != null ? new ConvenoLob(blob, null) : null;
+        }
+
+        Clob clob = executionResult.getClob(columnIndex);
+        return clob != null ? new ConvenoLob(null, clob) : null;
     }
 
     private <T> T unsafeAllocate(Class<T> adaptiveType) {
@@ -105,26 +617,247 @@ public class ConvenoResponse extends ArrayList<ConvenoResponseLine> {
         return null;
     }
 
+    private List<ConvenoResponseLine> limit(long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(Long.toString(limit));
+        }
+
+        return limit < size() ? subList(0, (int) limit) : this;
+    }
+
+    private <R, T extends ConvenoResponseAdapter<R>> Stream<R> convert(List<ConvenoResponseLine> lines, Class<T> adaptiveType,
+                                                                      ConvenoParallelism parallelism) {
+
+        if (!parallelism.isParallel(lines.size())) {
+            T adapter = unsafeAllocate(adaptiveType);
+            return lines.stream().map(adapter::convert);
+        }
+
+        Stream<R> stream = StreamSupport.stream(new ConvertingSpliterator<>(lines.spliterator(), adaptiveType), true);
+        return parallelism.isOrdered() ? stream : stream.unordered();
+    }
+
+    /**
+     * Converts the lines of the split by its own adapter, as the split
+     * is traversed by the one worker of the pool at once.
+     */
+    @FieldDefaults(makeFinal = true)
+    private final class ConvertingSpliterator<R, T extends ConvenoResponseAdapter<R>> implements Spliterator<R> {
+
+        private Spliterator<ConvenoResponseLine> lines;
+        private Class<T> adaptiveType;
+
+        @NonFinal
+        private T adapter;
+
+        private ConvertingSpliterator(Spliterator<ConvenoResponseLine> lines, Class<T> adaptiveType) {
+            this.lines = lines;
+            this.adaptiveType = adaptiveType;
+        }
+
+        private T adapter() {
+            if (adapter == null) {
+                adapter = unsafeAllocate(adaptiveType);
+            }
+
+            return adapter;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            return lines.tryAdvance(responseLine -> action.accept(adapter().convert(responseLine)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            T adapter = adapter();
+            lines.forEachRemaining(responseLine -> action.accept(adapter.convert(responseLine)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<ConvenoResponseLine> prefix = lines.trySplit();
+            return prefix != null ? new ConvertingSpliterator<>(prefix, adaptiveType) : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return lines.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return lines.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
     public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(Class<T> adaptiveType) {
-        return stream().map(responseLine -> unsafeAllocate(adaptiveType).convert(responseLine)).collect(Collectors.toList());
+        return toList(adaptiveType, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    /**
+     * Convert the lines, in parallel when the response
+     * has at least `threshold` lines of the parallelism.
+     *
+     * @param adaptiveType - Adapter of the lines.
+     * @param parallelism  - Parallel mapping settings.
+     * @return - A list of the converted lines.
+     */
+    public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(Class<T> adaptiveType, ConvenoParallelism parallelism) {
+        return parallelism.execute(() -> convert(this, adaptiveType, parallelism).collect(Collectors.toList()));
     }
 
     public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(Class<T> adaptiveType, Predicate<R> filter) {
-        return stream().map(responseLine -> unsafeAllocate(adaptiveType).convert(responseLine)).filter(filter).collect(Collectors.toList());
+        return toList(adaptiveType, filter, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(Class<T> adaptiveType, Predicate<R> filter,
+                                                                   ConvenoParallelism parallelism) {
+
+        return parallelism.execute(() -> convert(this, adaptiveType, parallelism).filter(filter).collect(Collectors.toList()));
     }
 
     public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(long limit, Class<T> adaptiveType) {
-        return stream().limit(limit).map(responseLine -> unsafeAllocate(adaptiveType).convert(responseLine)).collect(Collectors.toList());
+        return toList(limit, adaptiveType, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(long limit, Class<T> adaptiveType, ConvenoParallelism parallelism) {
+        return parallelism.execute(() -> convert(limit(limit), adaptiveType, parallelism).collect(Collectors.toList()));
     }
 
     public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(long limit, Class<T> adaptiveType, Predicate<R> filter) {
-        return stream().limit(limit).map(responseLine -> unsafeAllocate(adaptiveType).convert(responseLine)).filter(filter).collect(Collectors.toList());
+        return toList(limit, adaptiveType, filter, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(long limit, Class<T> adaptiveType, Predicate<R> filter,
+                                                                   ConvenoParallelism parallelism) {
+
+        return parallelism.execute(() -> convert(limit(limit), adaptiveType, parallelism).filter(filter).collect(Collectors.toList()));
     }
 
     public <R, T extends ConvenoResponseAdapter<R>> List<R> toList(int limit, Class<T> adaptiveType) {
         return toList((long) limit, adaptiveType);
     }
 
+    public <K, R, T extends ConvenoResponseAdapter<R>> Map<K, R> toMap(Class<T> adaptiveType, Function<R, K> keyMapper) {
+        return toMap(adaptiveType, keyMapper, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    /**
+     * Convert the lines to the map, which keeps the lines order when the parallelism is ordered.
+     *
+     * @param adaptiveType - Adapter of the lines.
+     * @param keyMapper    - Key of the converted line.
+     * @param parallelism  - Parallel mapping settings.
+     * @return - A map of the converted lines by their keys.
+     * @throws IllegalStateException - If the converted lines have a duplicate key.
+     */
+    public <K, R, T extends ConvenoResponseAdapter<R>> Map<K, R> toMap(Class<T> adaptiveType, Function<R, K> keyMapper,
+                                                                      ConvenoParallelism parallelism) {
+
+        BinaryOperator<R> duplicateMerger = (first, second) -> {
+            throw new IllegalStateException("Duplicate key " + keyMapper.apply(first));
+        };
+
+        if (!parallelism.isOrdered() && parallelism.isParallel(size())) {
+            return parallelism.execute(() -> convert(this, adaptiveType, parallelism)
+                    .collect(Collectors.toConcurrentMap(keyMapper, Function.identity(), duplicateMerger)));
+        }
+
+        return parallelism.execute(() -> convert(this, adaptiveType, parallelism)
+                .collect(Collectors.toMap(keyMapper, Function.identity(), duplicateMerger, LinkedHashMap::new)));
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>, A, C> C collect(Class<T> adaptiveType, Collector<? super R, A, C> collector) {
+        return collect(adaptiveType, collector, ConvenoParallelism.SEQUENTIAL);
+    }
+
+    public <R, T extends ConvenoResponseAdapter<R>, A, C> C collect(Class<T> adaptiveType, Collector<? super R, A, C> collector,
+                                                                    ConvenoParallelism parallelism) {
+
+        return parallelism.execute(() -> convert(this, adaptiveType, parallelism).collect(collector));
+    }
+
+    private <R> R map(Class<R> type, ConvenoResponseLine responseLine) {
+        return ConvenoRowMapper.of(unsafe, type, responseLine.getSchema()).map(responseLine);
+    }
+
+    /**
+     * Map the first line by the columns bound to
+     * the constructor parameters or fields of the type.
+     *
+     * @param type - Type of the mapped object.
+     * @return - A mapped object, or null.
+     */
+    public <R> R mapFirst(Class<R> type) {
+        return !isEmpty() ? map(type, first()) : null;
+    }
+
+    public <R> R mapLast(Class<R> type) {
+        return !isEmpty() ? map(type, last()) : null;
+    }
+
+    /**
+     * Map the lines by the columns bound to the
+     * constructor parameters or fields of the type.
+     *
+     * @param type - Type of the mapped objects.
+     * @return - A list of the mapped objects.
+     */
+    public <R> List<R> mapList(Class<R> type) {
+        List<R> list = new ArrayList<>(size());
+
+        ConvenoResponseSchema schema = null;
+        ConvenoRowMapper<R> mapper = null;
+
+        for (ConvenoResponseLine responseLine : this) {
+
+            // lines of the different results have their own schema.
+            if (responseLine.getSchema() != schema) {
+                schema = responseLine.getSchema();
+                mapper = ConvenoRowMapper.of(unsafe, type, schema);
+            }
+
+            list.add(mapper.map(responseLine));
+        }
+
+        return list;
+    }
+
+    /**
+     * Write the lines to the output stream, the same bytes as
+     * the cursor of the same result writes.
+     *
+     * @param output - Stream to write to, which is flushed but not closed.
+     * @param format - Text format of the lines.
+     * @return - A written lines count.
+     */
+    @SneakyThrows
+    public long writeTo(OutputStream output, ConvenoFormat format) {
+        if (schema == null) {
+            return 0;
+        }
+
+        RowWriter writer = new RowWriter(output, schema, format);
+        ConvenoResponseSchema writerSchema = schema;
+
+        for (ConvenoResponseLine responseLine : this) {
+
+            // lines of the other result are written with their own columns.
+            if (responseLine.getSchema() != writerSchema) {
+                writer.flush();
+
+                writerSchema = responseLine.getSchema();
+                writer = new RowWriter(output, writerSchema, format);
+            }
+
+            writer.writeRow(responseLine);
+        }
+
+        writer.flush();
+        return size();
+    }
+
     public ConvenoResponseLine first() {
         return stream().findFirst().orElse(null);
     }
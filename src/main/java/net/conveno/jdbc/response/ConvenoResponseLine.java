@@ -11,9 +11,13 @@ import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Response line, which stores the values of the row as a flat
+ * array and shares the columns metadata with the other lines.
+ */
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implements Cloneable {
+public class ConvenoResponseLine extends AbstractMap<Integer, Object> implements Cloneable {
 
     private static final Supplier<NoSuchElementException> NO_VALUE_PRESENT_SUPPLIER =
             (() -> new NoSuchElementException("no value present"));
@@ -21,23 +25,55 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     @Getter
     boolean firstLine, lastLine;
 
+    @Getter(AccessLevel.PACKAGE)
+    ConvenoResponseSchema schema;
+
+    /**
+     * Value of each column, from index 1.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    Object[] values;
+
     @NonFinal
     @Setter(AccessLevel.PACKAGE)
     ConvenoResponseLine next;
 
     @NonFinal
-    @Setter(AccessLevel.PACKAGE)
-    Set<Integer> nullableIndexes;
+    int currentIndex;
 
+    /**
+     * Line is shared by the frozen response and is read-only,
+     * the readers get its views with their own `next` position.
+     */
     @NonFinal
-    @Setter(AccessLevel.PACKAGE)
-    Map<String, Integer> indexByLabelsMap;
+    @Getter
+    boolean frozen;
 
-    @NonFinal
-    int currentIndex;
+    void freeze() {
+        frozen = true;
+    }
+
+    private void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen line does not accept the changes, clone it");
+        }
+    }
+
+    /**
+     * @return - A frozen line, which shares the values of this
+     *           line and has its own `next` reading position.
+     */
+    ConvenoResponseLine view() {
+        ConvenoResponseLine view = new ConvenoResponseLine(firstLine, lastLine, schema, values);
+
+        view.next = next;
+        view.frozen = true;
+
+        return view;
+    }
 
     public ConvenoResponseLine nextLine() {
-        return next;
+        return frozen && next != null ? next.view() : next;
     }
 
     public int nextIndex() {
@@ -49,17 +85,17 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public int findIndex(@NonNull String label) {
-        return indexByLabelsMap.getOrDefault(label.toLowerCase(), -1);
+        return schema.findIndex(label);
     }
 
     public String findLabel(int index) {
-        return indexByLabelsMap.keySet().stream().filter(label -> findIndex(label) == index).findFirst().orElse(null);
+        return schema.findLabel(index);
     }
 
     // *------------------------------------------------- * //
 
     public Set<Integer> getIndexes() {
-        return super.keySet();
+        return keySet();
     }
 
     public Set<String> getLabels() {
@@ -68,15 +104,15 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
 
     // *------------------------------------------------- * //
     public boolean contains(int index) {
-        return containsKey(index);
+        return sharedValueAt(index) != null;
     }
 
     public boolean contains(@NonNull String label) {
-        return containsKey(findIndex(label));
+        return contains(findIndex(label));
     }
 
     public boolean isNullable(int index) {
-        return nullableIndexes.contains(index);
+        return schema.isNullable(index);
     }
 
     public boolean isNullable(@NonNull String label) {
@@ -84,23 +120,54 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public void set(int index, @NonNull Object value) {
-        super.put(index, value);
+        checkModifiable();
+
+        if (index <= 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Column " + index + " is not found");
+        }
+
+        values[index] = value;
     }
 
     public void set(@NonNull String label, @NonNull Object value) {
-        super.put(findIndex(label), value);
+        set(findIndex(label), value);
     }
 
-    private Optional<Object> lookup(int index) {
-        if (index <= 0) {
-            return Optional.empty();
+    /**
+     * @return - A value of the column, the mutable values of the
+     *           frozen line are copied, so the readers do not share them.
+     */
+    Object valueAt(int index) {
+        Object value = sharedValueAt(index);
+        return frozen ? copyMutable(value) : value;
+    }
+
+    /**
+     * @return - A value of the column, which is not given to the callers.
+     */
+    Object sharedValueAt(int index) {
+        return index > 0 && index < values.length ? values[index] : null;
+    }
+
+    private static Object copyMutable(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+
+        // Date, Time and Timestamp with its nanos.
+        if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).clone();
         }
 
-        return Optional.ofNullable(get(index));
+        return value;
+    }
+
+    private Optional<Object> lookup(int index) {
+        return Optional.ofNullable(valueAt(index));
     }
 
     private <T> Optional<T> lookup(int index, Class<T> cls) {
-        return lookup(index).map(cls::cast);
+        return lookup(index).map(value -> value instanceof ConvenoLob ? ((ConvenoLob) value).as(cls) : cls.cast(value));
     }
 
     private <T> Optional<T> lookup(String label, Class<T> cls) {
@@ -124,7 +191,7 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public Optional<Boolean> getBoolean(int index) {
-        Object object = get(index);
+        Object object = valueAt(index);
 
         boolean returnValue = false;
 
@@ -194,7 +261,7 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public Optional<Date> getDate(int index) {
-        Object object = get(index);
+        Object object = valueAt(index);
 
         Date returnValue = null;
 
@@ -221,7 +288,7 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public Optional<Time> getTime(int index) {
-        Object object = get(index);
+        Object object = valueAt(index);
 
         Time returnValue = null;
 
@@ -248,7 +315,7 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
     }
 
     public Optional<Timestamp> getTimestamp(int index) {
-        Object object = get(index);
+        Object object = valueAt(index);
 
         Timestamp returnValue = null;
 
@@ -282,6 +349,21 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
         return lookup(label, byte[].class);
     }
 
+    /**
+     * Get the lazy handle of the BLOB or CLOB value of the cursor line.
+     *
+     * @param index - Column index.
+     * @return - A LOB handle, or empty when the value is null or is not lazy.
+     */
+    public Optional<ConvenoLob> getLob(int index) {
+        Object object = valueAt(index);
+        return object instanceof ConvenoLob ? Optional.of((ConvenoLob) object) : Optional.empty();
+    }
+
+    public Optional<ConvenoLob> getLob(@NonNull String label) {
+        return getLob(findIndex(label));
+    }
+
     // *------------------------------------------------- * //
 
     public Object getNullableObject(int index) {
@@ -388,6 +470,14 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
         return getBlob(label).orElseThrow(NO_VALUE_PRESENT_SUPPLIER);
     }
 
+    public ConvenoLob getNullableLob(int index) {
+        return getLob(index).orElseThrow(NO_VALUE_PRESENT_SUPPLIER);
+    }
+
+    public ConvenoLob getNullableLob(@NonNull String label) {
+        return getLob(label).orElseThrow(NO_VALUE_PRESENT_SUPPLIER);
+    }
+
     // *------------------------------------------------- * //
 
     public Optional<Object> nextObject() {
@@ -508,8 +598,87 @@ public class ConvenoResponseLine extends LinkedHashMap<Integer, Object> implemen
         return nextBlob().orElseThrow(NO_VALUE_PRESENT_SUPPLIER);
     }
 
+    // *------------------------------------------------- * //
+
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (int index = 1; index < values.length; index++) {
+            if (values[index] != null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && contains((int) key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof Integer ? valueAt((int) key) : null;
+    }
+
+    @Override
+    public Object put(Integer key, Object value) {
+        Object previous = valueAt(key);
+        set(key, value);
+
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<Integer, Object>> entrySet() {
+        return new AbstractSet<Entry<Integer, Object>>() {
+
+            @Override
+            public Iterator<Entry<Integer, Object>> iterator() {
+                return new Iterator<Entry<Integer, Object>>() {
+
+                    private int index = nextPresent(0);
+
+                    private int nextPresent(int from) {
+                        int index = from + 1;
+
+                        while (index < values.length && values[index] == null) {
+                            index++;
+                        }
+
+                        return index;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<Integer, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Entry<Integer, Object> entry = new SimpleImmutableEntry<>(index, valueAt(index));
+                        index = nextPresent(index);
+
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ConvenoResponseLine.this.size();
+            }
+        };
+    }
+
     @Override
     public ConvenoResponseLine clone() {
-        return (ConvenoResponseLine) super.clone();
+        return new ConvenoResponseLine(firstLine, lastLine, schema, values.clone());
     }
 }
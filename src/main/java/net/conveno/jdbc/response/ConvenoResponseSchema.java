@@ -0,0 +1,113 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columns metadata of the one result, read once
+ * and shared by all response lines of the result.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConvenoResponseSchema {
+
+    @Getter
+    private int columns;
+
+    /**
+     * Lower-case label of each column, from index 1.
+     */
+    private String[] labels;
+
+    private boolean[] nullable;
+
+    /**
+     * SQL type of each column, from index 1.
+     */
+    private int[] types;
+
+    private boolean lobs;
+
+    private Map<String, Integer> indexByLabelsMap;
+
+    /**
+     * Comma-separated labels, which identify
+     * the same columns of the different results.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private String signature;
+
+    public static ConvenoResponseSchema of(ResultSetMetaData metadata)
+    throws SQLException {
+
+        int columns = metadata.getColumnCount();
+
+        String[] labels = new String[columns + 1];
+        boolean[] nullable = new boolean[columns + 1];
+        int[] types = new int[columns + 1];
+
+        boolean lobs = false;
+
+        Map<String, Integer> indexByLabelsMap = new HashMap<>();
+
+        for (int columnIndex = 1; columnIndex <= columns; columnIndex++) {
+            String label = metadata.getColumnName(columnIndex).toLowerCase();
+
+            labels[columnIndex] = label;
+            nullable[columnIndex] = metadata.isNullable(columnIndex) == ResultSetMetaData.columnNullable;
+
+            types[columnIndex] = metadata.getColumnType(columnIndex);
+            lobs |= isLobType(types[columnIndex]);
+
+            indexByLabelsMap.put(label, columnIndex);
+        }
+
+        String signature = String.join(",", Arrays.asList(labels).subList(1, labels.length));
+        return new ConvenoResponseSchema(columns, labels, nullable, types, lobs,
+                Collections.unmodifiableMap(indexByLabelsMap), signature);
+    }
+
+    private static boolean isLobType(int type) {
+        return type == Types.BLOB || type == Types.CLOB || type == Types.NCLOB;
+    }
+
+    public int findIndex(String label) {
+        return indexByLabelsMap.getOrDefault(label.toLowerCase(), -1);
+    }
+
+    public String findLabel(int index) {
+        return index > 0 && index <= columns ? labels[index] : null;
+    }
+
+    public boolean isNullable(int index) {
+        return index > 0 && index <= columns && nullable[index];
+    }
+
+    /**
+     * @return - A java.sql.Types constant of the column, or Types.NULL.
+     */
+    public int getType(int index) {
+        return index > 0 && index <= columns ? types[index] : Types.NULL;
+    }
+
+    public boolean isLob(int index) {
+        return isLobType(getType(index));
+    }
+
+    /**
+     * @return - true if the result has BLOB or CLOB columns.
+     */
+    public boolean hasLobs() {
+        return lobs;
+    }
+}
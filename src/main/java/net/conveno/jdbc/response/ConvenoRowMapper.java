@@ -0,0 +1,341 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import sun.misc.Unsafe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Maps the response lines to the plain objects. Columns are bound to the
+ * constructor parameters or fields by name once per type and columns labels,
+ * so each line is mapped by the single allocation of the target object.
+ * <p>
+ * Constructor is used when its parameter names are compiled (`-parameters`)
+ * and each of them is bound to a column, otherwise the object is created by the
+ * no-args constructor or allocated, and the bound fields are set. Column `user_name`
+ * is bound to the `userName` or `user_name` parameter and field.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConvenoRowMapper<R> {
+
+    private static final MethodType ALLOCATOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, ConvenoResponseLine.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final List<Class<?>> NUMBER_TYPES = Arrays.asList(Integer.class, Long.class, Double.class,
+            Float.class, Short.class, Byte.class);
+
+    private static final MethodHandle ARGUMENT = findArgument();
+
+    private static final ClassValue<Map<String, ConvenoRowMapper<?>>> MAPPERS = new ClassValue<Map<String, ConvenoRowMapper<?>>>() {
+
+        @Override
+        protected Map<String, ConvenoRowMapper<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private Class<R> type;
+
+    /**
+     * Constructor reading each parameter from the line, or null.
+     */
+    private MethodHandle constructor;
+
+    /**
+     * Object allocator of the fields binding, or null.
+     */
+    private MethodHandle allocator;
+
+    /**
+     * Column index bound to each field, or null.
+     */
+    private int[] columnIndexes;
+
+    private MethodHandle[] setters;
+
+    private Function<Object, Object>[] converters;
+
+    /**
+     * Get the mapper of the type bound to the response columns.
+     *
+     * @param unsafe - Allocator of the objects without no-args constructor.
+     * @param type   - Type of the mapped objects.
+     * @param schema - Columns of the response lines.
+     * @return - A cached mapper.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> ConvenoRowMapper<R> of(Unsafe unsafe, Class<R> type, ConvenoResponseSchema schema) {
+        return (ConvenoRowMapper<R>) MAPPERS.get(type).computeIfAbsent(schema.getSignature(), __ -> create(unsafe, type, schema));
+    }
+
+    @SneakyThrows
+    private static MethodHandle findArgument() {
+        return MethodHandles.lookup().findStatic(ConvenoRowMapper.class, "toArgument",
+                MethodType.methodType(Object.class, ConvenoResponseLine.class, int.class, Function.class, Object.class));
+    }
+
+    /**
+     * @param defaultValue - Value of the SQL NULL.
+     * @return - A converted value of the column bound to the constructor parameter.
+     */
+    private static Object toArgument(ConvenoResponseLine responseLine, int columnIndex, Function<Object, Object> converter, Object defaultValue) {
+        Object value = responseLine.valueAt(columnIndex);
+        return value != null ? converter.apply(value) : defaultValue;
+    }
+
+    private static String toBindingName(String name) {
+        return name.replace("_", "").toLowerCase();
+    }
+
+    private static int findColumn(ConvenoResponseSchema schema, String name) {
+        String bindingName = toBindingName(name);
+
+        for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+            if (toBindingName(schema.findLabel(columnIndex)).equals(bindingName)) {
+                return columnIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static Object toDefault(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+
+        if (type == boolean.class) {
+            return false;
+        }
+
+        return type == char.class ? (Object) '\0' : toNumber(0, wrap(type));
+    }
+
+    private static Object toNumber(Number number, Class<?> wrapperType) {
+        if (wrapperType == Integer.class) {
+            return number.intValue();
+        }
+        if (wrapperType == Long.class) {
+            return number.longValue();
+        }
+        if (wrapperType == Double.class) {
+            return number.doubleValue();
+        }
+        if (wrapperType == Float.class) {
+            return number.floatValue();
+        }
+        if (wrapperType == Short.class) {
+            return number.shortValue();
+        }
+        if (wrapperType == Byte.class) {
+            return number.byteValue();
+        }
+
+        return number;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> toConverter(Class<?> type) {
+        Class<?> wrapperType = wrap(type);
+
+        if (NUMBER_TYPES.contains(wrapperType)) {
+            return value -> value instanceof Number && !wrapperType.isInstance(value) ? toNumber((Number) value, wrapperType) : value;
+        }
+        if (wrapperType == Boolean.class) {
+            return value -> value instanceof Number ? ((Number) value).intValue() != 0 : value;
+        }
+        if (wrapperType == String.class) {
+            return value -> value instanceof String ? value
+                    : value instanceof ConvenoLob ? ((ConvenoLob) value).readString() : value.toString();
+        }
+        if (type == byte[].class) {
+            return value -> value instanceof ConvenoLob ? ((ConvenoLob) value).toBytes() : value;
+        }
+        if (type.isEnum()) {
+            return value -> value instanceof String ? Enum.valueOf((Class<Enum>) type, (String) value) : value;
+        }
+        if (type == LocalDateTime.class) {
+            return value -> value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : value;
+        }
+        if (type == LocalDate.class) {
+            return value -> value instanceof Date ? ((Date) value).toLocalDate() : value;
+        }
+        if (type == LocalTime.class) {
+            return value -> value instanceof Time ? ((Time) value).toLocalTime() : value;
+        }
+
+        return Function.identity();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] newConverters(int length) {
+        return new Function[length];
+    }
+
+    private static <R> ConvenoRowMapper<R> create(Unsafe unsafe, Class<R> type, ConvenoResponseSchema schema) {
+        ConvenoRowMapper<R> mapper = createByConstructor(type, schema);
+
+        if (mapper == null) {
+            mapper = createByFields(unsafe, type, schema);
+        }
+
+        return mapper;
+    }
+
+    @SneakyThrows
+    private static <R> ConvenoRowMapper<R> createByConstructor(Class<R> type, ConvenoResponseSchema schema) {
+        Constructor<?> boundConstructor = null;
+        int[] boundColumnIndexes = null;
+
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            Parameter[] parameters = constructor.getParameters();
+
+            if (parameters.length == 0 || (boundConstructor != null && boundConstructor.getParameterCount() >= parameters.length)) {
+                continue;
+            }
+
+            int[] columnIndexes = new int[parameters.length];
+
+            for (int idx = 0; idx < parameters.length && columnIndexes != null; idx++) {
+                columnIndexes[idx] = parameters[idx].isNamePresent() ? findColumn(schema, parameters[idx].getName()) : -1;
+
+                if (columnIndexes[idx] < 0) {
+                    columnIndexes = null;
+                }
+            }
+
+            if (columnIndexes != null) {
+                boundConstructor = constructor;
+                boundColumnIndexes = columnIndexes;
+            }
+        }
+
+        if (boundConstructor == null) {
+            return null;
+        }
+
+        boundConstructor.setAccessible(true);
+
+        Class<?>[] parameterTypes = boundConstructor.getParameterTypes();
+        MethodHandle[] arguments = new MethodHandle[parameterTypes.length];
+
+        for (int idx = 0; idx < parameterTypes.length; idx++) {
+            arguments[idx] = MethodHandles.insertArguments(ARGUMENT, 1, boundColumnIndexes[idx],
+                    toConverter(parameterTypes[idx]), toDefault(parameterTypes[idx]));
+        }
+
+        // each parameter is read from the same line, so no arguments array is allocated per line.
+        MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(boundConstructor)
+                .asType(MethodType.genericMethodType(parameterTypes.length));
+
+        constructor = MethodHandles.permuteArguments(MethodHandles.filterArguments(constructor, 0, arguments),
+                CONSTRUCTOR_TYPE, new int[parameterTypes.length]);
+
+        return new ConvenoRowMapper<>(type, constructor, null, null, null, null);
+    }
+
+    @SneakyThrows
+    private static MethodHandle toAllocator(Unsafe unsafe, Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(ALLOCATOR_TYPE);
+        }
+        catch (NoSuchMethodException exception) {
+            MethodHandle allocateInstance = MethodHandles.lookup().findVirtual(Unsafe.class, "allocateInstance",
+                    MethodType.methodType(Object.class, Class.class));
+
+            return MethodHandles.insertArguments(allocateInstance, 0, unsafe, type);
+        }
+    }
+
+    @SneakyThrows
+    private static <R> ConvenoRowMapper<R> createByFields(Unsafe unsafe, Class<R> type, ConvenoResponseSchema schema) {
+        List<Integer> columnIndexes = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        List<Function<Object, Object>> converters = new ArrayList<>();
+
+        for (Class<?> declaringType = type; declaringType != null && declaringType != Object.class; declaringType = declaringType.getSuperclass()) {
+            for (Field field : declaringType.getDeclaredFields()) {
+
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+
+                int columnIndex = findColumn(schema, field.getName());
+
+                if (columnIndex < 0 || columnIndexes.contains(columnIndex)) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+
+                columnIndexes.add(columnIndex);
+                setters.add(MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+                converters.add(toConverter(field.getType()));
+            }
+        }
+
+        if (columnIndexes.isEmpty()) {
+            throw new IllegalArgumentException("No columns of the response are bound to " + type);
+        }
+
+        return new ConvenoRowMapper<>(type, null, toAllocator(unsafe, type),
+                columnIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                setters.toArray(new MethodHandle[0]),
+                converters.toArray(newConverters(0)));
+    }
+
+    /**
+     * Map the response line to the new object.
+     *
+     * @param responseLine - Line of the response.
+     * @return - A mapped object.
+     */
+    @SneakyThrows
+    public R map(ConvenoResponseLine responseLine) {
+        if (constructor != null) {
+            return type.cast((Object) constructor.invokeExact(responseLine));
+        }
+
+        Object instance = (Object) allocator.invokeExact();
+
+        for (int idx = 0; idx < columnIndexes.length; idx++) {
+            Object value = responseLine.valueAt(columnIndexes[idx]);
+
+            if (value != null) {
+                setters[idx].invokeExact(instance, converters[idx].apply(value));
+            }
+        }
+
+        return type.cast(instance);
+    }
+}
@@ -1,11 +1,20 @@
 package net.conveno.jdbc.response;
 
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 
 import java.util.ArrayList;
 
 public class ConvenoTransactionResponse extends ArrayList<ConvenoResponse> {
 
+    /**
+     * All statements of the transaction are executed and committed.
+     */
+    @Getter
+    @Setter
+    private boolean committed;
+
     public final void addAll(@NonNull ConvenoTransactionResponse transactionResponse) {
         super.addAll(transactionResponse);
     }
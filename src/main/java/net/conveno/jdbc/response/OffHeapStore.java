@@ -0,0 +1,266 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import net.conveno.jdbc.util.RowCodec;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Response lines encoded by the row codec to the blocks of the
+ * direct buffer, which are optionally deflated and are decoded
+ * on each access of the line.
+ * <p>
+ * Each block holds the lines count, offset of each line from the
+ * block start and the lines, so the line is read without the other
+ * lines of its block.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class OffHeapStore {
+
+    /**
+     * Encoded size of the block, after which the next lines start the new block.
+     */
+    private static final int BLOCK_SIZE = 64 << 10;
+
+    private static final int FIRST_LINE_FLAG = 0x1, LAST_LINE_FLAG = 0x2;
+
+    @RequiredArgsConstructor
+    @FieldDefaults(makeFinal = true)
+    private static final class InflatedBlock {
+
+        private int index;
+        private ByteBuffer buffer;
+    }
+
+    /**
+     * Schemas of the lines, referenced by index from the each line.
+     */
+    private List<ConvenoResponseSchema> schemas;
+
+    private ByteBuffer blocks;
+
+    /**
+     * Index of the first line, offset in the blocks
+     * buffer and encoded size of the each block.
+     */
+    private int[] blockLines, blockOffsets, blockSizes;
+
+    private int size;
+
+    private boolean deflated;
+
+    /**
+     * Last inflated block, which is read by the sequential access.
+     */
+    @NonFinal
+    private volatile InflatedBlock lastBlock;
+
+    /**
+     * Encode the lines.
+     *
+     * @param lines   - Response lines.
+     * @param deflate - Deflate the blocks.
+     * @return - A store of the lines, or null if the lines
+     *           are too large for the one direct buffer.
+     */
+    static OffHeapStore of(List<ConvenoResponseLine> lines, boolean deflate) {
+        List<ConvenoResponseSchema> schemas = new ArrayList<>();
+        List<byte[]> encodedBlocks = new ArrayList<>();
+
+        int[] blockLines = new int[16];
+        int[] blockSizes = new int[16];
+
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE * 2);
+        int[] lineOffsets = new int[256];
+
+        long totalSize = 0;
+        int blocksCount = 0, blockStart = 0, index = 0;
+
+        for (ConvenoResponseLine responseLine : lines) {
+            int blockLine = index - blockStart;
+
+            if (blockLine == lineOffsets.length) {
+                lineOffsets = Arrays.copyOf(lineOffsets, blockLine * 2);
+            }
+
+            lineOffsets[blockLine] = block.position();
+
+            int schemaIndex = schemas.lastIndexOf(responseLine.getSchema());
+
+            if (schemaIndex < 0) {
+                schemas.add(responseLine.getSchema());
+                schemaIndex = schemas.size() - 1;
+            }
+
+            block = RowCodec.write(block.putInt(schemaIndex).put((byte) ((responseLine.isFirstLine() ? FIRST_LINE_FLAG : 0)
+                    | (responseLine.isLastLine() ? LAST_LINE_FLAG : 0))), responseLine.getValues());
+
+            index++;
+
+            if (block.position() >= BLOCK_SIZE || index == lines.size()) {
+                if (blocksCount == blockLines.length) {
+                    blockLines = Arrays.copyOf(blockLines, blocksCount * 2);
+                    blockSizes = Arrays.copyOf(blockSizes, blocksCount * 2);
+                }
+
+                byte[] encodedBlock = encodeBlock(block, lineOffsets, index - blockStart);
+                byte[] storedBlock = deflate ? deflate(encodedBlock) : encodedBlock;
+
+                if ((totalSize += storedBlock.length) > Integer.MAX_VALUE) {
+                    return null;
+                }
+
+                blockLines[blocksCount] = blockStart;
+                blockSizes[blocksCount++] = encodedBlock.length;
+
+                encodedBlocks.add(storedBlock);
+
+                blockStart = index;
+                ((Buffer) block).clear();
+            }
+        }
+
+        ByteBuffer blocks = ByteBuffer.allocateDirect((int) totalSize);
+        int[] blockOffsets = new int[blocksCount];
+
+        for (int blockIndex = 0; blockIndex < blocksCount; blockIndex++) {
+            blockOffsets[blockIndex] = blocks.position();
+            blocks.put(encodedBlocks.get(blockIndex));
+        }
+
+        return new OffHeapStore(schemas, blocks, Arrays.copyOf(blockLines, blocksCount), blockOffsets,
+                Arrays.copyOf(blockSizes, blocksCount), index, deflate);
+    }
+
+    /**
+     * @return - The lines count, offsets of the lines and the lines.
+     */
+    private static byte[] encodeBlock(ByteBuffer block, int[] lineOffsets, int linesCount) {
+        int headerSize = Integer.BYTES * (linesCount + 1);
+
+        ByteBuffer encodedBlock = ByteBuffer.allocate(headerSize + block.position());
+        encodedBlock.putInt(linesCount);
+
+        for (int blockLine = 0; blockLine < linesCount; blockLine++) {
+            encodedBlock.putInt(headerSize + lineOffsets[blockLine]);
+        }
+
+        encodedBlock.put(block.array(), 0, block.position());
+        return encodedBlock.array();
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            byte[] output = new byte[bytes.length / 2 + 64];
+            int length = 0;
+
+            while (!deflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+
+                length += deflater.deflate(output, length, output.length - length);
+            }
+
+            return Arrays.copyOf(output, length);
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    @SneakyThrows
+    private ByteBuffer inflate(int blockIndex) {
+        Inflater inflater = new Inflater();
+
+        try {
+            ByteBuffer block = blocks.duplicate();
+            ((Buffer) block).position(blockOffsets[blockIndex]);
+
+            byte[] input = new byte[(blockIndex + 1 < blockOffsets.length ? blockOffsets[blockIndex + 1] : blocks.capacity())
+                    - blockOffsets[blockIndex]];
+
+            block.get(input);
+            inflater.setInput(input);
+
+            byte[] output = new byte[blockSizes[blockIndex]];
+            int length = 0;
+
+            while (length < output.length && !inflater.finished()) {
+                length += inflater.inflate(output, length, output.length - length);
+            }
+
+            return ByteBuffer.wrap(output);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return - A buffer of the block, which position is the block start.
+     */
+    private ByteBuffer block(int blockIndex) {
+        if (!deflated) {
+            ByteBuffer block = blocks.duplicate();
+            ((Buffer) block).position(blockOffsets[blockIndex]);
+
+            return block;
+        }
+
+        InflatedBlock inflatedBlock = lastBlock;
+
+        if (inflatedBlock == null || inflatedBlock.index != blockIndex) {
+            lastBlock = inflatedBlock = new InflatedBlock(blockIndex, inflate(blockIndex));
+        }
+
+        return inflatedBlock.buffer.duplicate();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return - A size of the direct buffer in bytes.
+     */
+    long getMemorySize() {
+        return blocks.capacity();
+    }
+
+    ConvenoResponseLine get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int blockIndex = Arrays.binarySearch(blockLines, index);
+        blockIndex = blockIndex >= 0 ? blockIndex : -blockIndex - 2;
+
+        ByteBuffer block = block(blockIndex);
+        int blockStart = block.position();
+
+        ((Buffer) block).position(blockStart + block.getInt(blockStart + Integer.BYTES * (index - blockLines[blockIndex] + 1)));
+
+        ConvenoResponseSchema schema = schemas.get(block.getInt());
+        int flags = block.get();
+
+        return new ConvenoResponseLine((flags & FIRST_LINE_FLAG) != 0, (flags & LAST_LINE_FLAG) != 0,
+                schema, RowCodec.read(block));
+    }
+}
@@ -0,0 +1,358 @@
+package net.conveno.jdbc.response;
+
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Base64;
+
+/**
+ * Encoder of the lines in the ConvenoFormat, which writes the values
+ * through the reusable buffer. Values are read either from the lines or
+ * straight from the result set, and both are encoded to the same bytes.
+ */
+@FieldDefaults(makeFinal = true)
+class RowWriter {
+
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private OutputStream output;
+    private ConvenoResponseSchema schema;
+    private ConvenoFormat format;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    @NonFinal
+    private int position;
+
+    RowWriter(OutputStream output, ConvenoResponseSchema schema, ConvenoFormat format)
+    throws IOException {
+
+        this.output = output;
+        this.schema = schema;
+        this.format = format;
+
+        if (format == ConvenoFormat.CSV) {
+            writeHeader();
+        }
+    }
+
+    private void writeHeader()
+    throws IOException {
+
+        for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+            if (columnIndex > 1) {
+                write(',');
+            }
+
+            writeString(schema.findLabel(columnIndex));
+        }
+
+        writeAscii("\r\n");
+    }
+
+    private void beginValue(int columnIndex)
+    throws IOException {
+
+        if (format == ConvenoFormat.CSV) {
+            if (columnIndex > 1) {
+                write(',');
+            }
+
+            return;
+        }
+
+        write(columnIndex > 1 ? ',' : '{');
+        writeString(schema.findLabel(columnIndex));
+        write(':');
+    }
+
+    private void endRow()
+    throws IOException {
+
+        if (format == ConvenoFormat.CSV) {
+            writeAscii("\r\n");
+            return;
+        }
+
+        if (schema.getColumns() == 0) {
+            write('{');
+        }
+
+        writeAscii("}\n");
+    }
+
+    void writeRow(ConvenoResponseLine responseLine)
+    throws IOException {
+
+        for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+            beginValue(columnIndex);
+            writeValue(responseLine.sharedValueAt(columnIndex));
+        }
+
+        endRow();
+    }
+
+    /**
+     * Write the current row of the result set without reading it to the line.
+     */
+    void writeRow(ResultSet resultSet)
+    throws IOException, SQLException {
+
+        for (int columnIndex = 1; columnIndex <= schema.getColumns(); columnIndex++) {
+            beginValue(columnIndex);
+
+            switch (schema.getType(columnIndex)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER: {
+                    int value = resultSet.getInt(columnIndex);
+
+                    if (resultSet.wasNull()) {
+                        writeNull();
+                    } else {
+                        writeLong(value);
+                    }
+
+                    break;
+                }
+
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                case Types.CLOB:
+                case Types.NCLOB:
+                    writeValue(resultSet.getString(columnIndex));
+                    break;
+
+                case Types.BLOB:
+                    writeValue(resultSet.getBytes(columnIndex));
+                    break;
+
+                default:
+                    writeValue(resultSet.getObject(columnIndex));
+            }
+        }
+
+        endRow();
+    }
+
+    private void writeNull()
+    throws IOException {
+
+        if (format == ConvenoFormat.JSON_LINES) {
+            writeAscii("null");
+        }
+    }
+
+    private void writeValue(Object value)
+    throws IOException {
+
+        if (value == null) {
+            writeNull();
+        }
+        else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        }
+        else if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof Boolean) {
+            writeAscii(value.toString());
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+
+            // JSON has no NaN and infinite numbers.
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                writeString(value.toString());
+            } else {
+                writeAscii(value.toString());
+            }
+        }
+        else if (value instanceof byte[]) {
+            writeString(Base64.getEncoder().encodeToString((byte[]) value));
+        }
+        else if (value instanceof ConvenoLob) {
+            ConvenoLob lob = (ConvenoLob) value;
+            writeValue(lob.isBinary() ? lob.toBytes() : lob.readString());
+        }
+        else {
+            writeString(value.toString());
+        }
+    }
+
+    private void ensure(int length)
+    throws IOException {
+
+        if (position + length > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void write(char character)
+    throws IOException {
+
+        ensure(1);
+        buffer[position++] = (byte) character;
+    }
+
+    private void writeAscii(String string)
+    throws IOException {
+
+        for (int index = 0; index < string.length(); index++) {
+            write(string.charAt(index));
+        }
+    }
+
+    private void writeLong(long value)
+    throws IOException {
+
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+
+        ensure(20);
+
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int start = position;
+
+        do {
+            buffer[position++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        // digits are written in the reverse order.
+        for (int left = start, right = position - 1; left < right; left++, right--) {
+            byte digit = buffer[left];
+
+            buffer[left] = buffer[right];
+            buffer[right] = digit;
+        }
+    }
+
+    private static boolean isCsvQuoted(String string) {
+        for (int index = 0; index < string.length(); index++) {
+            char character = string.charAt(index);
+
+            if (character == ',' || character == '"' || character == '\r' || character == '\n') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void writeString(String string)
+    throws IOException {
+
+        boolean json = format == ConvenoFormat.JSON_LINES;
+        boolean quoted = json || isCsvQuoted(string);
+
+        if (quoted) {
+            write('"');
+        }
+
+        for (int index = 0; index < string.length(); index++) {
+            char character = string.charAt(index);
+            ensure(6);
+
+            if (character == '"') {
+                buffer[position++] = (byte) (json ? '\\' : '"');
+                buffer[position++] = '"';
+            }
+            else if (json && character == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = '\\';
+            }
+            else if (json && character < 0x20) {
+                writeJsonControl(character);
+            }
+            else if (character < 0x80) {
+                buffer[position++] = (byte) character;
+            }
+            else if (character < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (character >> 6));
+                buffer[position++] = (byte) (0x80 | (character & 0x3F));
+            }
+            else if (Character.isHighSurrogate(character) && index + 1 < string.length()
+                    && Character.isLowSurrogate(string.charAt(index + 1))) {
+
+                int codePoint = Character.toCodePoint(character, string.charAt(++index));
+
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            else if (Character.isSurrogate(character)) {
+                buffer[position++] = '?';
+            }
+            else {
+                buffer[position++] = (byte) (0xE0 | (character >> 12));
+                buffer[position++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+
+        if (quoted) {
+            write('"');
+        }
+    }
+
+    private void writeJsonControl(char character) {
+        buffer[position++] = '\\';
+
+        switch (character) {
+            case '\n':
+                buffer[position++] = 'n';
+                break;
+            case '\r':
+                buffer[position++] = 'r';
+                break;
+            case '\t':
+                buffer[position++] = 't';
+                break;
+            case '\b':
+                buffer[position++] = 'b';
+                break;
+            case '\f':
+                buffer[position++] = 'f';
+                break;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX_DIGITS[character >> 4];
+                buffer[position++] = HEX_DIGITS[character & 0xF];
+        }
+    }
+
+    private void flushBuffer()
+    throws IOException {
+
+        output.write(buffer, 0, position);
+        position = 0;
+    }
+
+    void flush()
+    throws IOException {
+
+        flushBuffer();
+        output.flush();
+    }
+}
@@ -0,0 +1,289 @@
+package net.conveno.jdbc.response;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import net.conveno.jdbc.util.RowCodec;
+
+import java.io.Closeable;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Response lines spilled to the temporary file by the row codec
+ * and read back through the memory-mapped segments of the file.
+ * <p>
+ * The file is opened with DELETE_ON_CLOSE, so on POSIX systems
+ * it is unlinked at once and freed with its last mapping.
+ * <p>
+ * The store is closed by its response, or by the cleaner thread,
+ * when the response is collected without the closing.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class SpillStore implements Closeable {
+
+    private static final String SPILL_DIRECTORY = System.getProperty("conveno.spillDirectory", System.getProperty("java.io.tmpdir"));
+
+    private static final int WRITE_BUFFER_SIZE = 64 << 10;
+
+    /**
+     * Maximal size of the one mapped file segment, rows do not cross the segments.
+     */
+    private static final long SEGMENT_SIZE = 256L << 20;
+
+    private static final int FIRST_LINE_FLAG = 0x1, LAST_LINE_FLAG = 0x2;
+
+    private static final ReferenceQueue<Object> COLLECTED_OWNERS = new ReferenceQueue<>();
+
+    /**
+     * References of the not closed stores, which keep them reachable until the owner is collected.
+     */
+    private static final Set<OwnerReference> OWNER_REFERENCES = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicBoolean CLEANER_STARTED = new AtomicBoolean();
+
+    private FileChannel channel;
+
+    @NonFinal
+    private OwnerReference ownerReference;
+
+    /**
+     * Schemas of the spilled lines, referenced by index from the each row.
+     */
+    private List<ConvenoResponseSchema> schemas = new ArrayList<>();
+
+    @NonFinal
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+    /**
+     * Bytes count written to the channel.
+     */
+    @NonFinal
+    private long written;
+
+    @NonFinal
+    private long[] offsets = new long[1024];
+
+    @NonFinal
+    private int size;
+
+    @NonFinal
+    private long[] segmentStarts = new long[]{0};
+
+    @NonFinal
+    private MappedByteBuffer[] segments = new MappedByteBuffer[1];
+
+    /**
+     * @param owner - Response of the store, which closes the store, when it is collected.
+     * @return - A store of the new temporary file.
+     */
+    @SneakyThrows
+    static SpillStore create(Object owner) {
+        Path file = Files.createTempFile(Paths.get(SPILL_DIRECTORY), "conveno-", ".spill");
+
+        SpillStore store = new SpillStore(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE));
+
+        store.ownerReference = new OwnerReference(owner, store);
+        OWNER_REFERENCES.add(store.ownerReference);
+
+        if (CLEANER_STARTED.compareAndSet(false, true)) {
+            Thread cleaner = new Thread(SpillStore::closeCollected, "conveno-spill-cleaner");
+
+            cleaner.setDaemon(true);
+            cleaner.start();
+        }
+
+        return store;
+    }
+
+    private static void closeCollected() {
+        while (true) {
+            try {
+                ((OwnerReference) COLLECTED_OWNERS.remove()).store.close();
+            }
+            catch (InterruptedException exception) {
+                return;
+            }
+            catch (Exception exception) {
+                // nobody reads the collected response, its file is left to the JVM exit.
+            }
+        }
+    }
+
+    /**
+     * Approximate heap size of the response line.
+     *
+     * @param values - Values of the line.
+     * @return - A size in bytes.
+     */
+    static long estimateSize(Object[] values) {
+        // line object, values array header and the response reference.
+        long size = 64 + 4L * values.length;
+
+        for (Object value : values) {
+            if (value instanceof String) {
+                size += 40 + 2L * ((String) value).length();
+            }
+            else if (value instanceof byte[]) {
+                size += 16 + ((byte[]) value).length;
+            }
+            else if (value != null) {
+                size += 24;
+            }
+        }
+
+        return size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(ConvenoResponseSchema schema) {
+        int last = schemas.size() - 1;
+
+        if (last >= 0 && schemas.get(last) == schema) {
+            return last;
+        }
+
+        schemas.add(schema);
+        return last + 1;
+    }
+
+    @SneakyThrows
+    private void flush() {
+        ((Buffer) writeBuffer).flip();
+
+        while (writeBuffer.hasRemaining()) {
+            written += channel.write(writeBuffer, written);
+        }
+
+        writeBuffer = writeBuffer.capacity() > WRITE_BUFFER_SIZE ? ByteBuffer.allocate(WRITE_BUFFER_SIZE) : writeBuffer;
+        ((Buffer) writeBuffer).clear();
+    }
+
+    synchronized void add(ConvenoResponseLine responseLine) {
+        if (writeBuffer.remaining() < Integer.BYTES + 1) {
+            flush();
+        }
+
+        long offset = written + writeBuffer.position();
+
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+
+        offsets[size++] = offset;
+
+        writeBuffer.putInt(indexOf(responseLine.getSchema()));
+        writeBuffer.put((byte) ((responseLine.isFirstLine() ? FIRST_LINE_FLAG : 0) | (responseLine.isLastLine() ? LAST_LINE_FLAG : 0)));
+
+        writeBuffer = RowCodec.write(writeBuffer, responseLine.getValues());
+
+        long segmentStart = segmentStarts[segmentStarts.length - 1];
+
+        if (offset > segmentStart && written + writeBuffer.position() - segmentStart > SEGMENT_SIZE) {
+            segmentStarts = Arrays.copyOf(segmentStarts, segmentStarts.length + 1);
+            segmentStarts[segmentStarts.length - 1] = offset;
+
+            segments = Arrays.copyOf(segments, segmentStarts.length);
+        }
+
+        if (writeBuffer.position() >= WRITE_BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Slice of the row, mapped on the first read of its segment.
+     */
+    @SneakyThrows
+    private synchronized ByteBuffer slice(int index) {
+        long offset = offsets[index];
+        long end = index + 1 < size ? offsets[index + 1] : written + writeBuffer.position();
+
+        if (end > written) {
+            flush();
+        }
+
+        int segmentIndex = Arrays.binarySearch(segmentStarts, offset);
+        segmentIndex = segmentIndex >= 0 ? segmentIndex : -segmentIndex - 2;
+
+        long segmentStart = segmentStarts[segmentIndex];
+        MappedByteBuffer segment = segments[segmentIndex];
+
+        if (segment == null || segment.capacity() < end - segmentStart) {
+            long segmentEnd = segmentIndex + 1 < segmentStarts.length ? segmentStarts[segmentIndex + 1] : written;
+
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart);
+            segments[segmentIndex] = segment;
+        }
+
+        ByteBuffer row = segment.duplicate();
+
+        ((Buffer) row).limit((int) (end - segmentStart));
+        ((Buffer) row).position((int) (offset - segmentStart));
+
+        return row;
+    }
+
+    ConvenoResponseLine get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        ByteBuffer row = slice(index);
+
+        ConvenoResponseSchema schema;
+        synchronized (this) {
+            schema = schemas.get(row.getInt());
+        }
+
+        int flags = row.get();
+
+        return new ConvenoResponseLine((flags & FIRST_LINE_FLAG) != 0, (flags & LAST_LINE_FLAG) != 0,
+                schema, RowCodec.read(row));
+    }
+
+    /**
+     * Delete the file. The mapped segments are dropped too
+     * and are unmapped, when the readers release them.
+     */
+    @Override
+    @SneakyThrows
+    public synchronized void close() {
+        OWNER_REFERENCES.remove(ownerReference);
+
+        Arrays.fill(segments, null);
+        channel.close();
+    }
+
+    @FieldDefaults(makeFinal = true)
+    private static class OwnerReference extends PhantomReference<Object> {
+
+        private SpillStore store;
+
+        private OwnerReference(Object owner, SpillStore store) {
+            super(owner, COLLECTED_OWNERS);
+            this.store = store;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package net.conveno.jdbc.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary key statement of the entity table: `select * from table where id = ?`,
+ * `insert into table (...) values (...)`, `update table set ... where id = ?`
+ * or `delete from table where id = ?`.
+ */
+@Getter
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EntityStatement {
+
+    public enum Type {
+
+        LOOKUP, INSERT, UPDATE, DELETE,
+    }
+
+    private Type type;
+
+    /**
+     * Column of each placeholder, or null when the
+     * placeholder is a part of the value expression.
+     */
+    private String[] columns;
+
+    /**
+     * Placeholder index of the primary key value, or -1.
+     */
+    private int idIndex;
+
+    /**
+     * Every written value is the one placeholder, so the written line is known.
+     */
+    private boolean plain;
+
+    /**
+     * Recognize the primary key statement of the table.
+     *
+     * @param sql      - Compiled SQL with `?` placeholders.
+     * @param table    - Entity table name.
+     * @param idColumn - Primary key column name.
+     * @return - A recognized statement, or null.
+     */
+    public static EntityStatement of(String sql, String table, String idColumn) {
+        List<String> tokens = SqlTables.tokenize(sql);
+
+        if (!tokens.isEmpty() && tokens.get(tokens.size() - 1).equals(";")) {
+            tokens = tokens.subList(0, tokens.size() - 1);
+        }
+
+        if (tokens.size() < 4) {
+            return null;
+        }
+
+        table = table.toLowerCase();
+        idColumn = idColumn.toLowerCase();
+
+        switch (tokens.get(0)) {
+            case "iselect":
+                return tokens.size() == 8 && tokens.get(1).equals("*") && tokens.get(2).equals("ifrom") && isName(tokens.get(3), table)
+                        && isIdCondition(tokens, 4, idColumn) ? new EntityStatement(Type.LOOKUP, new String[]{idColumn}, 0, true) : null;
+
+            case "idelete":
+                return tokens.size() == 7 && tokens.get(1).equals("ifrom") && isName(tokens.get(2), table)
+                        && isIdCondition(tokens, 3, idColumn) ? new EntityStatement(Type.DELETE, new String[]{idColumn}, 0, true) : null;
+
+            case "iinsert":
+                return tokens.get(1).equals("iinto") && isName(tokens.get(2), table) ? toInsert(tokens, idColumn) : null;
+
+            case "iupdate":
+                return isName(tokens.get(1), table) && tokens.get(2).equals("iset") ? toUpdate(tokens, idColumn) : null;
+
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isName(String token, String name) {
+        return token.charAt(0) == SqlTables.IDENTIFIER && SqlTables.toName(token).equals(name);
+    }
+
+    /**
+     * `where id = ?` from the index to the end of the statement.
+     */
+    private static boolean isIdCondition(List<String> tokens, int idx, String idColumn) {
+        return tokens.size() == idx + 4 && tokens.get(idx).equals("iwhere") && isName(tokens.get(idx + 1), idColumn)
+                && tokens.get(idx + 2).equals("=") && tokens.get(idx + 3).equals("?");
+    }
+
+    /**
+     * Read the value expression until the `,` or the end token out of the parentheses.
+     *
+     * @param columns - Placeholders columns to append.
+     * @param column  - Column of the value.
+     * @return - An index of the token after the expression, or -1 if the statement is not ended.
+     */
+    private static int readValue(List<String> tokens, int idx, String end, List<String> columns, String column) {
+        int start = idx, depth = 0;
+
+        for (; idx < tokens.size(); idx++) {
+            String token = tokens.get(idx);
+
+            if (depth == 0 && (token.equals(",") || token.equals(end))) {
+                break;
+            }
+
+            if (token.equals("(")) {
+                depth++;
+            } else if (token.equals(")")) {
+                depth--;
+            }
+        }
+
+        if (idx == tokens.size()) {
+            return -1;
+        }
+
+        boolean plain = idx == start + 1 && tokens.get(start).equals("?");
+
+        for (int tokenIndex = start; tokenIndex < idx; tokenIndex++) {
+            if (tokens.get(tokenIndex).equals("?")) {
+                columns.add(plain ? column : null);
+            }
+        }
+
+        return idx;
+    }
+
+    private static EntityStatement toInsert(List<String> tokens, String idColumn) {
+        List<String> names = new ArrayList<>();
+        int idx = 3;
+
+        if (!tokens.get(idx++).equals("(")) {
+            return null;
+        }
+
+        for (; idx < tokens.size() && tokens.get(idx).charAt(0) == SqlTables.IDENTIFIER; idx += 2) {
+            names.add(SqlTables.toName(tokens.get(idx)));
+
+            if (idx + 1 >= tokens.size() || !tokens.get(idx + 1).equals(",")) {
+                idx++;
+                break;
+            }
+        }
+
+        if (idx + 1 >= tokens.size() || !tokens.get(idx).equals(")") || !tokens.get(idx + 1).equals("ivalues")
+                || idx + 2 >= tokens.size() || !tokens.get(idx + 2).equals("(")) {
+
+            return null;
+        }
+
+        List<String> columns = new ArrayList<>();
+        idx += 3;
+
+        for (String name : names) {
+            idx = readValue(tokens, idx, ")", columns, name);
+
+            if (idx < 0) {
+                return null;
+            }
+
+            idx++;
+        }
+
+        // one values group of the all columns.
+        if (idx != tokens.size() || !tokens.get(idx - 1).equals(")")) {
+            return null;
+        }
+
+        return toStatement(Type.INSERT, columns, columns.indexOf(idColumn), names.size());
+    }
+
+    private static EntityStatement toUpdate(List<String> tokens, String idColumn) {
+        List<String> columns = new ArrayList<>();
+        int idx = 3, values = 0;
+
+        while (idx + 1 < tokens.size() && tokens.get(idx).charAt(0) == SqlTables.IDENTIFIER && tokens.get(idx + 1).equals("=")) {
+            String column = SqlTables.toName(tokens.get(idx));
+
+            // primary key is not changed by the entity update.
+            if (column.equals(idColumn)) {
+                return null;
+            }
+
+            idx = readValue(tokens, idx + 2, "iwhere", columns, column);
+            values++;
+
+            if (idx < 0 || !tokens.get(idx).equals(",")) {
+                break;
+            }
+
+            idx++;
+        }
+
+        if (idx < 0 || !isIdCondition(tokens, idx, idColumn)) {
+            return null;
+        }
+
+        columns.add(idColumn);
+        return toStatement(Type.UPDATE, columns, columns.size() - 1, values);
+    }
+
+    private static EntityStatement toStatement(Type type, List<String> columns, int idIndex, int values) {
+        long plainValues = columns.stream().filter(column -> column != null).count();
+
+        // the id of the update condition is not a written value.
+        if (type == Type.UPDATE) {
+            plainValues--;
+        }
+
+        return new EntityStatement(type, columns.toArray(new String[0]), idIndex, plainValues == values);
+    }
+}
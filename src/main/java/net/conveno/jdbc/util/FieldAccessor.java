@@ -0,0 +1,68 @@
+package net.conveno.jdbc.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field getter resolved once per class and field name,
+ * so `${param}.$field` values are read without reflection.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<Map<String, FieldAccessor>>() {
+
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Getter
+    private Class<?> type;
+
+    @Getter
+    private String name;
+
+    private MethodHandle getter;
+
+    public static FieldAccessor of(Class<?> type, String name) {
+        return ACCESSORS.get(type).computeIfAbsent(name, __ -> create(type, name));
+    }
+
+    @SneakyThrows
+    private static FieldAccessor create(Class<?> type, String name) {
+        for (Class<?> declaringType = type; declaringType != null; declaringType = declaringType.getSuperclass()) {
+            try {
+                Field field = declaringType.getDeclaredField(name);
+                field.setAccessible(true);
+
+                MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                return new FieldAccessor(type, name, getter);
+            }
+            catch (NoSuchFieldException ignored) {
+                // lookup in the superclass.
+            }
+        }
+
+        throw new IllegalArgumentException("Field " + name + " is not found in " + type);
+    }
+
+    @SneakyThrows
+    public Object get(Object instance) {
+        return (Object) getter.invokeExact(instance);
+    }
+}
@@ -0,0 +1,163 @@
+package net.conveno.jdbc.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Multi-row form of the `insert ... values (?, ...)` statement,
+ * which VALUES group is repeated for the bucketed rows count.
+ */
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MultiRowValues {
+
+    /**
+     * Rows counts of the multi-row statements, from the largest.
+     */
+    private static final int[] BUCKETS = {512, 64, 8};
+
+    /**
+     * Bound parameters limit of the one statement, which most databases accept.
+     */
+    private static final int MAX_PARAMETERS = 2000;
+
+    private static final Pattern INSERT_VALUES_PATTERN = Pattern.compile("^\\s*insert\\s.*?\\bvalues\\s*\\(",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    /**
+     * Placeholders count of the one VALUES group.
+     */
+    @Getter
+    private int groupParameters;
+
+    /**
+     * SQL of each bucket.
+     */
+    private String[] bucketsSql;
+
+    private static int findGroupEnd(String sql, int groupStart) {
+        int depth = 0;
+        char quote = 0;
+
+        for (int idx = groupStart; idx < sql.length(); idx++) {
+            char character = sql.charAt(idx);
+
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            }
+            else if (character == '\'' || character == '"') {
+                quote = character;
+            }
+            else if (character == '(') {
+                depth++;
+            }
+            else if (character == ')' && --depth == 0) {
+                return idx;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int countPlaceholders(String sql) {
+        int count = 0;
+
+        for (int idx = 0; idx < sql.length(); idx++) {
+            if (sql.charAt(idx) == '?') {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Rewrite the single-row insert statement.
+     *
+     * @param preparedSql - Compiled statement.
+     * @return - A multi-row statement, or null when the statement is not a single-row
+     *          insert with all placeholders inside its VALUES group.
+     */
+    public static MultiRowValues of(PreparedSql preparedSql) {
+        String sql = preparedSql.getSql();
+        Matcher matcher = INSERT_VALUES_PATTERN.matcher(sql);
+
+        if (!matcher.find()) {
+            return null;
+        }
+
+        int groupStart = matcher.end() - 1;
+        int groupEnd = findGroupEnd(sql, groupStart);
+
+        if (groupEnd < 0) {
+            return null;
+        }
+
+        String prefix = sql.substring(0, groupStart);
+        String group = sql.substring(groupStart, groupEnd + 1);
+        String suffix = sql.substring(groupEnd + 1);
+
+        int groupParameters = countPlaceholders(group);
+
+        if (groupParameters == 0 || groupParameters != preparedSql.getParameterNames().length
+                || countPlaceholders(sql) != groupParameters || suffix.trim().startsWith(",")) {
+
+            return null;
+        }
+
+        String[] bucketsSql = new String[BUCKETS.length];
+
+        for (int bucketIndex = 0; bucketIndex < BUCKETS.length; bucketIndex++) {
+            int rows = BUCKETS[bucketIndex];
+            StringBuilder builder = new StringBuilder(prefix.length() + (group.length() + 2) * rows + suffix.length());
+
+            builder.append(prefix).append(group);
+
+            for (int row = 1; row < rows; row++) {
+                builder.append(", ").append(group);
+            }
+
+            bucketsSql[bucketIndex] = builder.append(suffix).toString();
+        }
+
+        return new MultiRowValues(groupParameters, bucketsSql);
+    }
+
+    /**
+     * Find the largest bucket, which fits the remaining rows.
+     *
+     * @param remainingRows - Rows count to write.
+     * @param maxRows       - Max rows count of the one statement.
+     * @return - A bucket index, or -1 when the rows are too few for a multi-row statement.
+     */
+    public int toBucket(int remainingRows, int maxRows) {
+        for (int bucketIndex = 0; bucketIndex < BUCKETS.length; bucketIndex++) {
+            int rows = BUCKETS[bucketIndex];
+
+            if (rows <= remainingRows && rows <= maxRows && rows * groupParameters <= MAX_PARAMETERS) {
+                return bucketIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    public int getBucketRows(int bucketIndex) {
+        return BUCKETS[bucketIndex];
+    }
+
+    public String getBucketSql(int bucketIndex) {
+        return bucketsSql[bucketIndex];
+    }
+
+    public int getBucketsCount() {
+        return BUCKETS.length;
+    }
+}
@@ -0,0 +1,56 @@
+package net.conveno.jdbc.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@FieldDefaults(makeFinal = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PreparedSql {
+
+    /**
+     * SQL with `?` placeholders for every parameter.
+     */
+    private String sql;
+
+    /**
+     * Name of the @ConvenoParam bound to each placeholder.
+     */
+    private String[] parameterNames;
+
+    /**
+     * Name of the parameter field bound to each placeholder,
+     * or null when the parameter value itself is bound.
+     */
+    private String[] fieldNames;
+
+    /**
+     * Last resolved field accessor of each placeholder.
+     */
+    @Getter(AccessLevel.NONE)
+    private FieldAccessor[] fieldAccessors;
+
+    public static PreparedSql of(String sql, String[] parameterNames, String[] fieldNames) {
+        return new PreparedSql(sql, parameterNames, fieldNames, new FieldAccessor[fieldNames.length]);
+    }
+
+    /**
+     * Read the field bound to the placeholder.
+     *
+     * @param index - Placeholder index.
+     * @param value - Parameter value.
+     * @return - A field value.
+     */
+    public Object getFieldValue(int index, Object value) {
+        FieldAccessor accessor = fieldAccessors[index];
+
+        if (accessor == null || accessor.getType() != value.getClass()) {
+            accessor = FieldAccessor.of(value.getClass(), fieldNames[index]);
+            fieldAccessors[index] = accessor;
+        }
+
+        return accessor.get(value);
+    }
+}
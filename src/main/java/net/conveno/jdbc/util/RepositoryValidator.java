@@ -2,12 +2,12 @@ package net.conveno.jdbc.util;
 
 import lombok.experimental.UtilityClass;
 import net.conveno.jdbc.ConvenoAsynchronous;
+import net.conveno.jdbc.ConvenoBatch;
 import net.conveno.jdbc.ConvenoNonResponse;
 import net.conveno.jdbc.ConvenoQuery;
 import net.conveno.jdbc.ConvenoTransaction;
 
 import java.lang.reflect.Method;
-import java.util.*;
 
 @UtilityClass
 public class RepositoryValidator {
@@ -20,25 +20,20 @@ public class RepositoryValidator {
 
     private final byte RESP_MASK_FLAG = 0x08;
 
-    private final Map<String, Byte> BITMASKS = new HashMap<>();
+    private final byte BATCH_MASK_FLAG = 0x10;
 
     private byte generateBitMask(Method method) {
         byte async = (method.isAnnotationPresent(ConvenoAsynchronous.class) ? ASYNC_MASK_FLAG : 0);
         byte query = (method.isAnnotationPresent(ConvenoQuery.class) ? QUERY_MASK_FLAG : 0);
         byte trans = (method.isAnnotationPresent(ConvenoTransaction.class) ? TRANS_MASK_FLAG : 0);
         byte resp = (!method.isAnnotationPresent(ConvenoNonResponse.class) ? RESP_MASK_FLAG : 0);
+        byte batch = (method.isAnnotationPresent(ConvenoBatch.class) ? BATCH_MASK_FLAG : 0);
 
-        return (byte) (async | query | trans | resp);
+        return (byte) (async | query | trans | resp | batch);
     }
 
     private boolean checkMask(Method method, byte flag) {
-        String methodKey = method.toString().intern();
-
-        if (!BITMASKS.containsKey(methodKey)) {
-            BITMASKS.put(methodKey, generateBitMask(method));
-        }
-
-        return (BITMASKS.get(methodKey) & flag) == flag;
+        return (generateBitMask(method) & flag) == flag;
     }
 
     public boolean isAsynchronous(Method method) {
@@ -53,6 +48,10 @@ public class RepositoryValidator {
         return checkMask(method, TRANS_MASK_FLAG);
     }
 
+    public boolean isBatch(Method method) {
+        return checkMask(method, BATCH_MASK_FLAG);
+    }
+
     public boolean canResponseReturn(Method method) {
         return checkMask(method, RESP_MASK_FLAG);
     }
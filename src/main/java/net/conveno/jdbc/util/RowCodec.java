@@ -0,0 +1,220 @@
+package net.conveno.jdbc.util;
+
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Compact binary format of the row values: the values count and a
+ * type tag followed by the value bytes for each value.
+ */
+@UtilityClass
+public class RowCodec {
+
+    private static final byte NULL = 0, INT = 1, LONG = 2, DOUBLE = 3, FLOAT = 4, SHORT = 5, BYTE = 6, BOOLEAN = 7,
+            STRING = 8, BYTES = 9, BIG_DECIMAL = 10, BIG_INTEGER = 11, TIMESTAMP = 12, DATE = 13, TIME = 14, UUID_VALUE = 15,
+            SERIALIZED = 16;
+
+    /**
+     * Append the values to the buffer.
+     *
+     * @param buffer - Buffer of the encoded rows.
+     * @param values - Row values.
+     * @return - The same buffer, or a twice larger copy
+     *           of the same kind when the row does not fit.
+     */
+    public ByteBuffer write(ByteBuffer buffer, Object[] values) {
+        int start = buffer.position();
+
+        while (true) {
+            try {
+                buffer.putInt(values.length);
+
+                for (Object value : values) {
+                    writeValue(buffer, value);
+                }
+
+                return buffer;
+            }
+            catch (BufferOverflowException exception) {
+                buffer = grow(buffer, start);
+            }
+        }
+    }
+
+    private ByteBuffer grow(ByteBuffer buffer, int start) {
+        int capacity = Math.max(buffer.capacity() * 2, 64);
+
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+
+        // Buffer casts keep the Java 8 method signatures.
+        ((Buffer) buffer).position(start);
+        ((Buffer) buffer).flip();
+
+        return grown.put(buffer);
+    }
+
+    /**
+     * Read the values of the row at the buffer position.
+     *
+     * @param buffer - Buffer of the encoded rows.
+     * @return - Row values.
+     */
+    public Object[] read(ByteBuffer buffer) {
+        Object[] values = new Object[buffer.getInt()];
+
+        for (int index = 0; index < values.length; index++) {
+            values[index] = readValue(buffer);
+        }
+
+        return values;
+    }
+
+    private void writeBytes(ByteBuffer buffer, byte tag, byte[] bytes) {
+        buffer.put(tag).putInt(bytes.length).put(bytes);
+    }
+
+    @SneakyThrows
+    private void writeValue(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer.put(NULL);
+        }
+        else if (value instanceof Integer) {
+            buffer.put(INT).putInt((Integer) value);
+        }
+        else if (value instanceof Long) {
+            buffer.put(LONG).putLong((Long) value);
+        }
+        else if (value instanceof Double) {
+            buffer.put(DOUBLE).putDouble((Double) value);
+        }
+        else if (value instanceof Float) {
+            buffer.put(FLOAT).putFloat((Float) value);
+        }
+        else if (value instanceof Short) {
+            buffer.put(SHORT).putShort((Short) value);
+        }
+        else if (value instanceof Byte) {
+            buffer.put(BYTE).put((Byte) value);
+        }
+        else if (value instanceof Boolean) {
+            buffer.put(BOOLEAN).put((byte) ((Boolean) value ? 1 : 0));
+        }
+        else if (value instanceof String) {
+            writeBytes(buffer, STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        else if (value instanceof byte[]) {
+            writeBytes(buffer, BYTES, (byte[]) value);
+        }
+        else if (value instanceof BigDecimal) {
+            writeBytes(buffer, BIG_DECIMAL, value.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        else if (value instanceof BigInteger) {
+            writeBytes(buffer, BIG_INTEGER, ((BigInteger) value).toByteArray());
+        }
+        else if (value instanceof Timestamp) {
+            buffer.put(TIMESTAMP).putLong(((Timestamp) value).getTime()).putInt(((Timestamp) value).getNanos());
+        }
+        else if (value instanceof Date) {
+            buffer.put(DATE).putLong(((Date) value).getTime());
+        }
+        else if (value instanceof Time) {
+            buffer.put(TIME).putLong(((Time) value).getTime());
+        }
+        else if (value instanceof UUID) {
+            buffer.put(UUID_VALUE).putLong(((UUID) value).getMostSignificantBits()).putLong(((UUID) value).getLeastSignificantBits());
+        }
+        else if (value instanceof Blob) {
+            writeBytes(buffer, BYTES, ((Blob) value).getBytes(1, (int) ((Blob) value).length()));
+        }
+        else if (value instanceof Clob) {
+            writeBytes(buffer, STRING, ((Clob) value).getSubString(1, (int) ((Clob) value).length()).getBytes(StandardCharsets.UTF_8));
+        }
+        else if (value instanceof Serializable) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+                objectOutput.writeObject(value);
+            }
+
+            writeBytes(buffer, SERIALIZED, output.toByteArray());
+        }
+        else {
+            throw new IllegalArgumentException("Value of " + value.getClass() + " is not supported by the row codec");
+        }
+    }
+
+    private byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    @SneakyThrows
+    private Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case FLOAT:
+                return buffer.getFloat();
+            case SHORT:
+                return buffer.getShort();
+            case BYTE:
+                return buffer.get();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(buffer);
+            case BIG_DECIMAL:
+                return new BigDecimal(new String(readBytes(buffer), StandardCharsets.US_ASCII));
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            case TIMESTAMP: {
+                Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+
+                return timestamp;
+            }
+            case DATE:
+                return new Date(buffer.getLong());
+            case TIME:
+                return new Time(buffer.getLong());
+            case UUID_VALUE:
+                return new UUID(buffer.getLong(), buffer.getLong());
+            case SERIALIZED:
+                try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(readBytes(buffer)))) {
+                    return objectInput.readObject();
+                }
+            default:
+                throw new IllegalStateException("Unknown row codec tag " + tag);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package net.conveno.jdbc.util;
+
+@FunctionalInterface
+public interface SneakyFunction<T, R> {
+
+    R apply(T value) throws Exception;
+}
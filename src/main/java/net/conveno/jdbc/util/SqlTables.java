@@ -0,0 +1,181 @@
+package net.conveno.jdbc.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Names of the tables, which the simple statements read by the
+ * `from` and `join` clauses, or write by the `insert`, `update`,
+ * `delete`, `merge` and `truncate` statements.
+ * <p>
+ * Names are lower-cased and taken without the schema.
+ */
+@UtilityClass
+public class SqlTables {
+
+    final char IDENTIFIER = 'i';
+
+    /**
+     * @return - Names of the read tables, or empty set if they are not found.
+     */
+    public Set<String> readTables(String sql) {
+        List<String> tokens = tokenize(sql);
+        Set<String> tables = new LinkedHashSet<>();
+
+        for (int idx = 0; idx < tokens.size(); idx++) {
+            String token = tokens.get(idx);
+
+            if (token.equals("ifrom") || token.equals("ijoin")) {
+                readTablesList(tokens, idx + 1, tables);
+            }
+        }
+
+        return Collections.unmodifiableSet(tables);
+    }
+
+    /**
+     * @return - Name of the written table, or empty set if the
+     *           statement is not recognized and may write any table.
+     */
+    public Set<String> writtenTables(String sql) {
+        List<String> tokens = tokenize(sql);
+
+        if (tokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        int tableIndex;
+
+        switch (tokens.get(0)) {
+            case "iinsert":
+            case "imerge":
+            case "ireplace":
+                tableIndex = tokens.indexOf("iinto") + 1;
+                break;
+
+            case "idelete":
+                tableIndex = tokens.size() > 1 && tokens.get(1).equals("ifrom") ? 2 : 1;
+                break;
+
+            case "iupdate":
+                tableIndex = 1;
+                break;
+
+            case "itruncate":
+                tableIndex = tokens.size() > 1 && tokens.get(1).equals("itable") ? 2 : 1;
+                break;
+
+            default:
+                return Collections.emptySet();
+        }
+
+        if (tableIndex <= 0 || tableIndex >= tokens.size() || tokens.get(tableIndex).charAt(0) != IDENTIFIER) {
+            return Collections.emptySet();
+        }
+
+        return Collections.singleton(toName(tokens.get(tableIndex)));
+    }
+
+    private void readTablesList(List<String> tokens, int idx, Set<String> tables) {
+        while (idx < tokens.size() && isTable(tokens, idx)) {
+            tables.add(toName(tokens.get(idx++)));
+
+            // skip the alias.
+            if (idx < tokens.size() && tokens.get(idx).equals("ias")) {
+                idx++;
+            }
+
+            if (idx < tokens.size() && tokens.get(idx).charAt(0) == IDENTIFIER) {
+                idx++;
+            }
+
+            if (idx >= tokens.size() || !tokens.get(idx).equals(",")) {
+                return;
+            }
+
+            idx++;
+        }
+    }
+
+    /**
+     * Identifier, which is not a function call or subquery.
+     */
+    private boolean isTable(List<String> tokens, int idx) {
+        return tokens.get(idx).charAt(0) == IDENTIFIER && (idx + 1 >= tokens.size() || !tokens.get(idx + 1).equals("("));
+    }
+
+    String toName(String token) {
+        return token.substring(Math.max(token.lastIndexOf('.'), 0) + 1);
+    }
+
+    /**
+     * Split the SQL into the lower-cased identifiers prefixed by `i` and the
+     * punctuation characters, the literals and comments are skipped.
+     */
+    List<String> tokenize(String sql) {
+        List<String> tokens = new ArrayList<>();
+        int length = sql.length();
+
+        for (int idx = 0; idx < length; ) {
+            char character = sql.charAt(idx);
+
+            if (Character.isWhitespace(character)) {
+                idx++;
+            }
+            else if (character == '\'') {
+                idx = skipQuoted(sql, idx, '\'');
+            }
+            else if (character == '-' && sql.startsWith("--", idx)) {
+                int end = sql.indexOf('\n', idx);
+                idx = end < 0 ? length : end + 1;
+            }
+            else if (character == '/' && sql.startsWith("/*", idx)) {
+                int end = sql.indexOf("*/", idx + 2);
+                idx = end < 0 ? length : end + 2;
+            }
+            else if (isIdentifierPart(character) || character == '"' || character == '`') {
+                StringBuilder identifier = new StringBuilder().append(IDENTIFIER);
+
+                while (idx < length) {
+                    character = sql.charAt(idx);
+
+                    if (character == '"' || character == '`') {
+                        int end = skipQuoted(sql, idx, character);
+                        identifier.append(sql, idx + 1, end - 1);
+
+                        idx = end;
+                    }
+                    else if (isIdentifierPart(character) || character == '.') {
+                        identifier.append(character);
+                        idx++;
+                    }
+                    else {
+                        break;
+                    }
+                }
+
+                tokens.add(identifier.toString().toLowerCase());
+            }
+            else {
+                tokens.add(String.valueOf(character));
+                idx++;
+            }
+        }
+
+        return tokens;
+    }
+
+    private boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '$';
+    }
+
+    private int skipQuoted(String sql, int idx, char quote) {
+        int end = sql.indexOf(quote, idx + 1);
+        return end < 0 ? sql.length() : end + 1;
+    }
+}
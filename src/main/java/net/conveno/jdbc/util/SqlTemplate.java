@@ -0,0 +1,226 @@
+package net.conveno.jdbc.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL template tokenized once into literal and placeholder segments:
+ * `${name}`, `${name}.$field`, `${table}` and `${system.*}`.
+ */
+@Getter
+@FieldDefaults(makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SqlTemplate {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+    private static final String VARIABLE_SPLITTER = ".$";
+
+    private static final String TABLE_NAME = "table";
+    private static final String SYSTEM_PREFIX = "system.";
+
+    private static final int PLACEHOLDER_LENGTH_ESTIMATE = 16;
+
+    private static final Map<String, SqlTemplate> TEMPLATES_CACHE = new ConcurrentHashMap<>();
+
+    public enum SegmentType {
+
+        LITERAL, PARAMETER, TABLE, SYSTEM,
+    }
+
+    @Getter
+    @FieldDefaults(makeFinal = true)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Segment {
+
+        private SegmentType type;
+
+        /**
+         * Literal text, or the placeholder as it was written in the template.
+         */
+        private String text;
+
+        /**
+         * Parameter name or system property key.
+         */
+        private String name;
+
+        /**
+         * Field name after `.$`, or null.
+         */
+        private String field;
+    }
+
+    private String source;
+
+    private Segment[] segments;
+
+    private int literalLength;
+
+    private int parametersCount;
+
+    /**
+     * Get a tokenized template from the cache or tokenize it.
+     *
+     * @param sql - Template source.
+     * @return - A tokenized template.
+     */
+    public static SqlTemplate of(String sql) {
+        return TEMPLATES_CACHE.computeIfAbsent(sql, SqlTemplate::compile);
+    }
+
+    private static boolean isFieldChar(char character) {
+        return Character.isLetterOrDigit(character) || character == '_';
+    }
+
+    public static SqlTemplate compile(String sql) {
+        List<Segment> segments = new ArrayList<>();
+
+        int literalLength = 0;
+        int parametersCount = 0;
+
+        int literalStart = 0;
+        int position = sql.indexOf(PLACEHOLDER_PREFIX);
+
+        while (position >= 0) {
+            int end = sql.indexOf(PLACEHOLDER_SUFFIX, position + PLACEHOLDER_PREFIX.length());
+
+            if (end < 0) {
+                break;
+            }
+
+            String name = sql.substring(position + PLACEHOLDER_PREFIX.length(), end);
+            String field = null;
+
+            int placeholderEnd = end + PLACEHOLDER_SUFFIX.length();
+
+            if (sql.startsWith(VARIABLE_SPLITTER, placeholderEnd)) {
+                int fieldStart = placeholderEnd + VARIABLE_SPLITTER.length();
+                int fieldEnd = fieldStart;
+
+                while (fieldEnd < sql.length() && isFieldChar(sql.charAt(fieldEnd))) {
+                    fieldEnd++;
+                }
+
+                if (fieldEnd > fieldStart) {
+                    field = sql.substring(fieldStart, fieldEnd);
+                    placeholderEnd = fieldEnd;
+                }
+            }
+
+            if (position > literalStart) {
+                String literal = sql.substring(literalStart, position);
+
+                segments.add(new Segment(SegmentType.LITERAL, literal, null, null));
+                literalLength += literal.length();
+            }
+
+            String placeholder = sql.substring(position, placeholderEnd);
+
+            if (field == null && name.equals(TABLE_NAME)) {
+                segments.add(new Segment(SegmentType.TABLE, placeholder, name, null));
+
+            } else if (field == null && name.startsWith(SYSTEM_PREFIX)) {
+                segments.add(new Segment(SegmentType.SYSTEM, placeholder, name.substring(SYSTEM_PREFIX.length()), null));
+
+            } else {
+                segments.add(new Segment(SegmentType.PARAMETER, placeholder, name, field));
+                parametersCount++;
+            }
+
+            literalStart = placeholderEnd;
+            position = sql.indexOf(PLACEHOLDER_PREFIX, literalStart);
+        }
+
+        if (literalStart < sql.length()) {
+            String literal = sql.substring(literalStart);
+
+            segments.add(new Segment(SegmentType.LITERAL, literal, null, null));
+            literalLength += literal.length();
+        }
+
+        return new SqlTemplate(sql, segments.toArray(new Segment[0]), literalLength, parametersCount);
+    }
+
+    private void appendConstant(StringBuilder builder, Segment segment, String table) {
+        switch (segment.type) {
+
+            case LITERAL: {
+                builder.append(segment.text);
+                break;
+            }
+
+            case TABLE: {
+                builder.append(table != null ? table : segment.text);
+                break;
+            }
+
+            case SYSTEM: {
+                builder.append(System.getProperty(segment.name, segment.text));
+                break;
+            }
+        }
+    }
+
+    /**
+     * Render the template into SQL with `?` placeholders
+     * for a PreparedStatement.
+     *
+     * @param table - Repository table name, or null.
+     * @return - A compiled SQL with its parameters binding order.
+     */
+    public PreparedSql toPreparedSql(String table) {
+        StringBuilder builder = new StringBuilder(literalLength + segments.length * PLACEHOLDER_LENGTH_ESTIMATE);
+
+        String[] parameterNames = new String[parametersCount];
+        String[] fieldNames = new String[parametersCount];
+
+        int parameterIndex = 0;
+
+        for (Segment segment : segments) {
+
+            if (segment.type == SegmentType.PARAMETER) {
+                parameterNames[parameterIndex] = segment.name;
+                fieldNames[parameterIndex] = segment.field;
+
+                parameterIndex++;
+                builder.append('?');
+            }
+            else {
+                appendConstant(builder, segment, table);
+            }
+        }
+
+        return PreparedSql.of(builder.toString(), parameterNames, fieldNames);
+    }
+
+    /**
+     * Render the table and system properties of the template,
+     * the parameter placeholders are kept as they are.
+     *
+     * @param table - Repository table name, or null.
+     * @return - A rendered string.
+     */
+    public String render(String table) {
+        StringBuilder builder = new StringBuilder(literalLength + segments.length * PLACEHOLDER_LENGTH_ESTIMATE);
+
+        for (Segment segment : segments) {
+
+            if (segment.type == SegmentType.PARAMETER) {
+                builder.append(segment.text);
+            }
+            else {
+                appendConstant(builder, segment, table);
+            }
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package net.conveno.jdbc.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@UtilityClass
+public class StatementBinder {
+
+    public void bind(PreparedStatement statement, int index, Object value)
+    throws SQLException {
+
+        if (value == null) {
+            statement.setNull(index, Types.NULL);
+        }
+        else if (value instanceof String) {
+            statement.setString(index, (String) value);
+        }
+        else if (value instanceof Integer) {
+            statement.setInt(index, (Integer) value);
+        }
+        else if (value instanceof Long) {
+            statement.setLong(index, (Long) value);
+        }
+        else if (value instanceof Double) {
+            statement.setDouble(index, (Double) value);
+        }
+        else if (value instanceof Float) {
+            statement.setFloat(index, (Float) value);
+        }
+        else if (value instanceof Short) {
+            statement.setShort(index, (Short) value);
+        }
+        else if (value instanceof Byte) {
+            statement.setByte(index, (Byte) value);
+        }
+        else if (value instanceof Boolean) {
+            statement.setBoolean(index, (Boolean) value);
+        }
+        else if (value instanceof BigDecimal) {
+            statement.setBigDecimal(index, (BigDecimal) value);
+        }
+        else if (value instanceof Timestamp) {
+            statement.setTimestamp(index, (Timestamp) value);
+        }
+        else if (value instanceof Date) {
+            statement.setDate(index, (Date) value);
+        }
+        else if (value instanceof Time) {
+            statement.setTime(index, (Time) value);
+        }
+        else if (value instanceof java.util.Date) {
+            statement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        }
+        else if (value instanceof LocalDateTime) {
+            statement.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+        }
+        else if (value instanceof LocalDate) {
+            statement.setDate(index, Date.valueOf((LocalDate) value));
+        }
+        else if (value instanceof LocalTime) {
+            statement.setTime(index, Time.valueOf((LocalTime) value));
+        }
+        else if (value instanceof byte[]) {
+            statement.setBytes(index, (byte[]) value);
+        }
+        else if (value instanceof Enum) {
+            statement.setString(index, ((Enum<?>) value).name());
+        }
+        else {
+            statement.setObject(index, value);
+        }
+    }
+
+    public void bind(PreparedStatement statement, PreparedSql preparedSql, int[] argumentIndexes, Object[] initargs)
+    throws SQLException {
+
+        bind(statement, preparedSql, argumentIndexes, initargs, 0);
+    }
+
+    /**
+     * Bind the arguments starting from the placeholder offset,
+     * used by the multi-row statements.
+     *
+     * @param offset - Index of the first placeholder to bind.
+     */
+    public void bind(PreparedStatement statement, PreparedSql preparedSql, int[] argumentIndexes, Object[] initargs, int offset)
+    throws SQLException {
+
+        String[] fieldNames = preparedSql.getFieldNames();
+
+        for (int idx = 0; idx < argumentIndexes.length; idx++) {
+            Object value = initargs[argumentIndexes[idx]];
+
+            if (fieldNames[idx] != null) {
+                value = preparedSql.getFieldValue(idx, value);
+            }
+
+            bind(statement, offset + idx + 1, value);
+        }
+    }
+}
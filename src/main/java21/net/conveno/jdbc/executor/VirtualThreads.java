@@ -0,0 +1,29 @@
+package net.conveno.jdbc.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JDK 21 variant, packed into `META-INF/versions/21` of the multi-release jar.
+ */
+public final class VirtualThreads {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("conveno.virtualThreads", "true"));
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Create an executor, which starts a new virtual thread for each task.
+     *
+     * @param name - Threads name prefix.
+     * @return - A virtual threads executor, or null when disabled by `-Dconveno.virtualThreads=false`.
+     */
+    public static ExecutorService newExecutor(String name) {
+        if (!ENABLED) {
+            return null;
+        }
+
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("conveno-" + name + "-", 1).factory());
+    }
+}
@@ -1,11 +1,18 @@
 package net.conveno.jdbc.test;
 
 import net.conveno.jdbc.ConvenoRouter;
+import net.conveno.jdbc.response.ConvenoBatchResponse;
+import net.conveno.jdbc.response.ConvenoColumnarResponse;
+import net.conveno.jdbc.response.ConvenoParallelism;
 import net.conveno.jdbc.response.ConvenoResponse;
 import net.conveno.jdbc.response.ConvenoResponseLine;
 import net.conveno.jdbc.response.ConvenoTransactionResponse;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class BootstrapTest {
 
@@ -53,6 +60,16 @@ public class BootstrapTest {
 
         System.out.println(usersList);
 
+        // Get list of users mapped by the columns bound to the Userinfo fields.
+        System.out.println(repository.getUsersList(3).mapList(Userinfo.class));
+
+        // Fan out asynchronous queries and compose their responses.
+        CompletableFuture<ConvenoResponse> firstUsersFuture = repository.getUsersListAsync(1);
+        CompletableFuture<ConvenoResponse> secondUsersFuture = repository.getUsersListAsync(2);
+
+        System.out.println("Async users count: " + firstUsersFuture.thenCombine(secondUsersFuture,
+                (firstUsers, secondUsers) -> firstUsers.size() + secondUsers.size()).join());
+
         // Reinsert misha user.
         ConvenoTransactionResponse reinsert = repository.reinsert(misha);
 
@@ -62,6 +79,49 @@ public class BootstrapTest {
             }
         }
 
+        // Batch insert of many users.
+        List<Userinfo> batchUsers = new ArrayList<>();
+
+        for (int index = 0; index < 250; index++) {
+            batchUsers.add(new Userinfo("Batch" + index, index % 100));
+        }
+
+        ConvenoBatchResponse batchInsert = repository.insertAll(batchUsers);
+        System.out.println("Batch inserted rows - " + batchInsert.getAffectedRows() + ", generated keys - " + batchInsert.size());
+
+        // Convert the users on the fork-join pool.
+        Map<Integer, Userinfo> usersById = repository.getUsersList(1000)
+                .toMap(Userinfo.class, Userinfo::getId, ConvenoParallelism.of(100, true));
+
+        System.out.println("Parallel converted users - " + usersById.size());
+
+        // Stream all users lazily.
+        try (Stream<ConvenoResponseLine> usersStream = repository.streamUsers()) {
+            System.out.println("Streamed users count - " + usersStream.count());
+        }
+
+        // Read the users ages by columns.
+        ConvenoColumnarResponse usersAges = repository.getUsersAges();
+        int ageColumn = usersAges.findIndex("age");
+
+        long agesSum = 0;
+
+        for (int row = 0; row < usersAges.size(); row++) {
+            agesSum += usersAges.getIntUnchecked(row, ageColumn);
+        }
+
+        System.out.println("Users average age - " + (agesSum / usersAges.size()));
+
+        // Aggregate the ages as the decimals, the NULL cell reads as 0.
+        ConvenoColumnarResponse agesSummary = repository.getAgesSummary();
+
+        if (agesSummary.getLongUnchecked(0, 1) != agesSum || agesSummary.getIntUnchecked(0, 3) != 0 || !agesSummary.isNull(0, 3)) {
+            throw new IllegalStateException("Aggregated ages are not read");
+        }
+
+        System.out.println("Users decimal average age - " + agesSummary.getDoubleUnchecked(0, 2) + ", boxed - " + agesSummary.getObject(0, 2));
+
         System.out.println("Time speed: " + (System.currentTimeMillis() - startTime) + "ms");
+        convenoRouter.shutdown();
     }
 }
@@ -0,0 +1,47 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.ConvenoRouter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ConnectionPoolTest {
+
+    private static final int THREADS_COUNT = 8;
+    private static final long SLEEP_MILLIS = 250;
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        JDBCRepositoryTest repository = convenoRouter.getRepository(JDBCRepositoryTest.class);
+
+        repository.createSleepFunction();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS_COUNT);
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        long startTime = System.currentTimeMillis();
+
+        // Every call borrows its own pooled connection,
+        // so all sleeps must overlap in time.
+        for (int index = 0; index < THREADS_COUNT; index++) {
+            futures.add(CompletableFuture.runAsync(() -> repository.sleep(SLEEP_MILLIS), executorService));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        long serialTime = THREADS_COUNT * SLEEP_MILLIS;
+
+        System.out.println("Parallel calls: " + THREADS_COUNT + ", time speed: " + elapsedTime + "ms (serial - " + serialTime + "ms)");
+
+        if (elapsedTime >= serialTime / 2) {
+            throw new IllegalStateException("Repository calls were not executed in parallel");
+        }
+    }
+}
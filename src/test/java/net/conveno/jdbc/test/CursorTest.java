@@ -0,0 +1,78 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoCursor;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+
+public class CursorTest {
+
+    // H2 streams the rows only in the lazy query execution mode.
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:cursor;LAZY_QUERY_EXECUTION=TRUE",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface RangeRepository {
+
+        /**
+         * Request to generate the numbers sequence
+         * and read it lazily by the cursor.
+         *
+         * @param count - Numbers count.
+         * @return - A cursor of the lines with the `x` number.
+         */
+        @ConvenoFetchSize(1000)
+        @ConvenoQuery(sql = "select x from system_range(1, ${count})")
+        ConvenoCursor range(@ConvenoParam("count") long count);
+    }
+
+    private static final long ROWS_COUNT = 2_000_000;
+    private static final long MEASURED_ROWS_COUNT = 200_000;
+
+    /**
+     * Heap growth limit of the reading, the read lines would take ~100MB.
+     */
+    private static final long MAX_HEAP_GROWTH = 16L << 20;
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        RangeRepository repository = convenoRouter.getRepository(RangeRepository.class);
+
+        long baseMemory = HeapUsage.liveMemory();
+
+        long startTime = System.currentTimeMillis();
+        long maxHeapGrowth = 0, sum = 0, count = 0;
+
+        // Memory must stay flat, whatever the rows count is.
+        try (ConvenoCursor cursor = repository.range(ROWS_COUNT)) {
+
+            while (cursor.hasNext()) {
+                ConvenoResponseLine responseLine = cursor.next();
+
+                sum += responseLine.getNullableLong(1);
+                count++;
+
+                if (count % MEASURED_ROWS_COUNT == 0) {
+                    maxHeapGrowth = Math.max(maxHeapGrowth, HeapUsage.liveMemory() - baseMemory);
+                }
+            }
+
+            if (!cursor.isClosed()) {
+                throw new IllegalStateException("Exhausted cursor is not closed");
+            }
+        }
+
+        System.out.println("Cursor rows: " + count + ", sum: " + sum + ", max heap growth: " + (maxHeapGrowth >> 20) + "MB"
+                + ", time speed: " + (System.currentTimeMillis() - startTime) + "ms");
+
+        if (count != ROWS_COUNT || sum != ROWS_COUNT * (ROWS_COUNT + 1) / 2) {
+            throw new IllegalStateException("Cursor lost the rows");
+        }
+
+        if (maxHeapGrowth > MAX_HEAP_GROWTH) {
+            throw new IllegalStateException("Cursor lines are held on the heap");
+        }
+
+        convenoRouter.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.proxied.ProxiedEntityCache;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+public class EntityCacheTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:entity",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    @ConvenoTable(name = "users")
+    @ConvenoEntityCache(idColumn = "id", maxEntries = 100)
+    public interface UserRepository {
+
+        @ConvenoQuery(sql = "create table if not exists ${table} (id int not null primary key auto_increment, name varchar(32) not null, age int not null)")
+        @ConvenoNonResponse
+        void createTable();
+
+        /**
+         * Request to find the user by the primary key, which is read from the entity cache.
+         */
+        @ConvenoQuery(sql = "select * from ${table} where id = ${id}")
+        ConvenoResponse find(@ConvenoParam("id") int id);
+
+        @ConvenoQuery(sql = "insert into ${table} (name, age) values (${user}.$name, ${user}.$age)")
+        ConvenoResponse insert(@ConvenoParam("user") Userinfo userinfo);
+
+        @ConvenoQuery(sql = "update ${table} set name = ${name} where id = ${id}")
+        @ConvenoNonResponse
+        void rename(@ConvenoParam("id") int id, @ConvenoParam("name") String name);
+
+        /**
+         * Request to increment the user age, which line is not known and is evicted.
+         */
+        @ConvenoQuery(sql = "update ${table} set age = age + 1 where id = ${id}")
+        @ConvenoNonResponse
+        void birthday(@ConvenoParam("id") int id);
+
+        @ConvenoQuery(sql = "delete from ${table} where id = ${id}")
+        @ConvenoNonResponse
+        void delete(@ConvenoParam("id") int id);
+
+        @ConvenoQuery(sql = "update ${table} set age = ${age}")
+        @ConvenoNonResponse
+        void resetAges(@ConvenoParam("age") int age);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        UserRepository repository = convenoRouter.getRepository(UserRepository.class);
+
+        ProxiedEntityCache entityCache = convenoRouter.getRepositoryEntityCache(UserRepository.class);
+        repository.createTable();
+
+        // Missing line is read by every lookup.
+        check(repository.find(1).isEmpty() && repository.find(1).isEmpty() && entityCache.getMisses() == 2, "Missing line is cached");
+
+        // Inserted line is written through by the generated key.
+        int id = repository.insert(new Userinfo("alice", 30)).first().getNullableInt("id");
+        check(entityCache.size() == 0, "Inserted line of the unknown columns is cached");
+
+        Userinfo alice = repository.find(id).toFirst(Userinfo.class);
+        check(alice.getId() == id && "alice".equals(alice.getName()) && alice.getAge() == 30, "Wrong line is read");
+
+        int bobId = repository.insert(new Userinfo("bob", 25)).first().getNullableInt("id");
+        long misses = entityCache.getMisses();
+
+        Userinfo bob = repository.find(bobId).toFirst(Userinfo.class);
+        check(entityCache.getMisses() == misses && "bob".equals(bob.getName()) && bob.getAge() == 25, "Inserted line is not written through");
+
+        // Updated line is patched, the line of the value expression is evicted.
+        repository.rename(id, "alicia");
+        Userinfo alicia = repository.find(id).toFirst(Userinfo.class);
+
+        check(entityCache.getMisses() == misses && "alicia".equals(alicia.getName()) && alicia.getAge() == 30, "Updated line is not written through");
+
+        repository.birthday(id);
+        check(repository.find(id).toFirst(Userinfo.class).getAge() == 31 && entityCache.getMisses() == misses + 1, "Updated expression is not evicted");
+
+        // Deleted line is evicted.
+        repository.delete(bobId);
+        check(repository.find(bobId).isEmpty(), "Deleted line is read");
+
+        // Writes of the unknown lines evict the whole cache.
+        repository.resetAges(18);
+        check(repository.find(id).toFirst(Userinfo.class).getAge() == 18, "Table write does not evict the lines");
+
+        System.out.println("Entity cache hits: " + entityCache.getHits() + ", misses: " + entityCache.getMisses());
+        convenoRouter.shutdown();
+    }
+}
@@ -0,0 +1,143 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.ConvenoRouter;
+import net.conveno.jdbc.RejectionPolicy;
+import net.conveno.jdbc.executor.ConvenoExecutorService;
+import net.conveno.jdbc.executor.ConvenoExecutorSettings;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ExecutorBackpressureTest {
+
+    private static final int THREADS_COUNT = 2;
+    private static final int QUEUE_CAPACITY = 2;
+
+    private static final int CALLS_COUNT = 8;
+    private static final long SLEEP_MILLIS = 200;
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create(
+                ConvenoExecutorSettings.of(THREADS_COUNT, THREADS_COUNT, QUEUE_CAPACITY, RejectionPolicy.DROP));
+
+        JDBCRepositoryTest repository = convenoRouter.getRepository(JDBCRepositoryTest.class);
+        ConvenoExecutorService executor = convenoRouter.getRepositoryExecutor(JDBCRepositoryTest.class);
+
+        repository.createSleepFunction();
+
+        List<CompletableFuture<ConvenoResponse>> futures = new ArrayList<>();
+
+        for (int index = 0; index < CALLS_COUNT; index++) {
+            futures.add(repository.sleepAsync(SLEEP_MILLIS));
+        }
+
+        System.out.println("Virtual threads: " + executor.isVirtual());
+        System.out.println("Queue depth: " + executor.getQueueDepth() + ", rejected: " + executor.getRejectedCount());
+
+        int droppedCount = 0;
+
+        for (CompletableFuture<ConvenoResponse> future : futures) {
+            try {
+                future.join();
+            }
+            catch (CompletionException exception) {
+
+                if (!(exception.getCause() instanceof RejectedExecutionException)) {
+                    throw exception;
+                }
+
+                droppedCount++;
+            }
+        }
+
+        convenoRouter.shutdown();
+
+        // Only the running and the queued calls are accepted.
+        int expectedDroppedCount = CALLS_COUNT - THREADS_COUNT - QUEUE_CAPACITY;
+
+        System.out.println("Dropped calls: " + droppedCount + " (expected - " + expectedDroppedCount + ")");
+
+        if (droppedCount != expectedDroppedCount || executor.getRejectedCount() != expectedDroppedCount) {
+            throw new IllegalStateException("Executor queue is not bounded");
+        }
+
+        checkShutdownRejection();
+        checkBlockedShutdown();
+    }
+
+    /**
+     * Calls of the shut down executor without the queue are
+     * rejected by the future instead of waiting forever.
+     */
+    private static void checkShutdownRejection() {
+        ConvenoRouter convenoRouter = ConvenoRouter.create(
+                ConvenoExecutorSettings.of(THREADS_COUNT, THREADS_COUNT, 0, RejectionPolicy.CALLER_RUNS));
+
+        JDBCRepositoryTest repository = convenoRouter.getRepository(JDBCRepositoryTest.class);
+
+        repository.createSleepFunction();
+        repository.sleepAsync(1).join();
+
+        convenoRouter.shutdown();
+
+        try {
+            repository.sleepAsync(1).get(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("Call of the shut down executor is executed");
+        }
+        catch (ExecutionException exception) {
+
+            if (!(exception.getCause() instanceof RejectedExecutionException)) {
+                throw new IllegalStateException("Call is not rejected", exception);
+            }
+        }
+        catch (InterruptedException | TimeoutException exception) {
+            throw new IllegalStateException("Rejected call is never completed", exception);
+        }
+
+        System.out.println("Shut down executor rejects the calls");
+    }
+
+    /**
+     * Call blocked by the full queue during the shutdown is
+     * executed or rejected, but its future is always completed.
+     */
+    private static void checkBlockedShutdown() {
+        ConvenoRouter convenoRouter = ConvenoRouter.create(
+                ConvenoExecutorSettings.of(1, 1, 1, RejectionPolicy.BLOCK));
+
+        JDBCRepositoryTest repository = convenoRouter.getRepository(JDBCRepositoryTest.class);
+        repository.createSleepFunction();
+
+        repository.sleepAsync(SLEEP_MILLIS);
+        repository.sleepAsync(SLEEP_MILLIS);
+
+        CompletableFuture<CompletableFuture<ConvenoResponse>> blocked = CompletableFuture.supplyAsync(() -> repository.sleepAsync(SLEEP_MILLIS));
+
+        convenoRouter.shutdown();
+
+        try {
+            blocked.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+            System.out.println("Blocked call is executed before the shutdown");
+        }
+        catch (ExecutionException exception) {
+
+            if (!(exception.getCause() instanceof RejectedExecutionException)) {
+                throw new IllegalStateException("Blocked call is not rejected", exception);
+            }
+
+            System.out.println("Blocked call is rejected by the shutdown");
+        }
+        catch (InterruptedException | TimeoutException exception) {
+            throw new IllegalStateException("Blocked call is never completed", exception);
+        }
+    }
+}
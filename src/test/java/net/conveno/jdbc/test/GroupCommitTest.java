@@ -0,0 +1,101 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.ConvenoRouter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class GroupCommitTest {
+
+    private static final int CALLS_COUNT = 10_000;
+    private static final int REPLAYED_CALLS_COUNT = 600;
+    private static final long DEADLINE_WAIT_MILLIS = 200;
+
+    private static int countUsers(JDBCRepositoryTest repository) {
+        return repository.getUsersList(Integer.MAX_VALUE).size();
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException, TimeoutException {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        JDBCRepositoryTest repository = convenoRouter.getRepository(JDBCRepositoryTest.class);
+
+        repository.createTable();
+
+        // A single call is written by the deadline flush.
+        repository.insertLater(new Userinfo("Deadline", 1));
+        Thread.sleep(DEADLINE_WAIT_MILLIS);
+
+        if (countUsers(repository) != 1) {
+            throw new IllegalStateException("Pending call was not flushed by the deadline");
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        for (int index = 0; index < CALLS_COUNT; index++) {
+            repository.insertLater(new Userinfo("Event" + index, index % 100));
+        }
+
+        convenoRouter.flush();
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        int usersCount = countUsers(repository);
+
+        System.out.println("Coalesced calls: " + CALLS_COUNT + ", written rows: " + (usersCount - 1) + ", time speed: " + elapsedTime + "ms");
+
+        if (usersCount != CALLS_COUNT + 1) {
+            throw new IllegalStateException("Pending calls were lost");
+        }
+
+        // The failed call is reported, and the other calls of its group commit are written.
+        CompletableFuture<Void> written = repository.insertLaterAwait(new Userinfo("Written", 3));
+        CompletableFuture<Void> failed = repository.insertLaterAwait(new Userinfo(null, 4));
+
+        convenoRouter.flush();
+        written.get(5, TimeUnit.SECONDS);
+
+        try {
+            failed.get(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("Failed call was not reported");
+        }
+        catch (ExecutionException exception) {
+            System.out.println("Failed call was reported: " + exception.getCause());
+        }
+
+        if (countUsers(repository) != CALLS_COUNT + 2) {
+            throw new IllegalStateException("Rows of the failed group commit were lost");
+        }
+
+        // Rows of the group commit failed by the binding are rolled back before the replay.
+        for (int index = 0; index < REPLAYED_CALLS_COUNT; index++) {
+            repository.insertLaterAwait(new Userinfo("Replayed" + index, index % 100));
+        }
+
+        CompletableFuture<Void> unbound = repository.insertLaterAwait(null);
+        convenoRouter.flush();
+
+        if (!unbound.isCompletedExceptionally()) {
+            throw new IllegalStateException("Unbound call was not reported");
+        }
+
+        if (countUsers(repository) != CALLS_COUNT + 2 + REPLAYED_CALLS_COUNT) {
+            throw new IllegalStateException("Replayed calls were written twice or lost");
+        }
+
+        // Shutdown writes the calls, which are still pending.
+        repository.insertLater(new Userinfo("Shutdown", 2));
+        convenoRouter.shutdown();
+
+        try {
+            repository.insertLater(new Userinfo("Rejected", 5));
+            throw new IllegalStateException("Call after the shutdown was queued");
+        }
+        catch (RejectedExecutionException exception) {
+            System.out.println("Call after the shutdown was rejected");
+        }
+    }
+}
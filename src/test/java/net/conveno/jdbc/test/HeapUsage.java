@@ -0,0 +1,27 @@
+package net.conveno.jdbc.test;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Heap measurement of the tests, which check that the
+ * responses and cursors do not hold their lines on the heap.
+ */
+@UtilityClass
+public class HeapUsage {
+
+    private static final int GC_PASSES = 3;
+
+    /**
+     * @return - A used heap size in bytes after the full GC, so
+     *           only the reachable objects are counted.
+     */
+    public long liveMemory() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int idx = 0; idx < GC_PASSES; idx++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
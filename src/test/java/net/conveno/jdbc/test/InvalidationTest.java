@@ -0,0 +1,126 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoTransactionResponse;
+
+public class InvalidationTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:invalidation",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    @ConvenoTable(name = "roles")
+    public interface RoleRepository {
+
+        @ConvenoQuery(sql = "create table if not exists ${table} (id int not null primary key, title varchar(32))")
+        @ConvenoNonResponse
+        void createTable();
+
+        @ConvenoQuery(sql = "insert into ${table} (id, title) values (${id}, ${title})")
+        @ConvenoNonResponse
+        void insert(@ConvenoParam("id") int id, @ConvenoParam("title") String title);
+
+        @ConvenoQuery(sql = "update ${table} set title = ${title} where id = ${id}")
+        @ConvenoNonResponse
+        void rename(@ConvenoParam("id") int id, @ConvenoParam("title") String title);
+
+        /**
+         * Request to rename the role in the transaction,
+         * which is rolled back when the role is not found.
+         */
+        @ConvenoTransaction({
+                @ConvenoQuery(sql = "update ${table} set title = ${title} where id = ${id}"),
+                @ConvenoQuery(sql = "insert into ${table} (id, title) values (${id}, ${title})"),
+        })
+        ConvenoTransactionResponse renameOrInsert(@ConvenoParam("id") int id, @ConvenoParam("title") String title);
+    }
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:invalidation",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    @ConvenoTable(name = "members")
+    public interface MemberRepository {
+
+        @ConvenoQuery(sql = "create table if not exists ${table} (name varchar(32) not null primary key, role_id int)")
+        @ConvenoNonResponse
+        void createTable();
+
+        @ConvenoQuery(sql = "insert into ${table} (name, role_id) values (${name}, ${role})")
+        @ConvenoNonResponse
+        void insert(@ConvenoParam("name") String name, @ConvenoParam("role") int roleId);
+
+        @ConvenoQuery(sql = "delete from ${table} where name = ${name}")
+        @ConvenoNonResponse
+        void delete(@ConvenoParam("name") String name);
+
+        /**
+         * Request to read the member role, which reads the `members` and `roles` tables.
+         */
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select m.name, r.title from ${table} m join roles r on r.id = m.role_id where m.name = ${name}")
+        ConvenoResponse getRole(@ConvenoParam("name") String name);
+
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select count(*) as members from ${table}")
+        ConvenoResponse count();
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static String title(ConvenoResponse response) {
+        return response.first().getNullableString("title");
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+
+        RoleRepository roles = convenoRouter.getRepository(RoleRepository.class);
+        MemberRepository members = convenoRouter.getRepository(MemberRepository.class);
+
+        roles.createTable();
+        members.createTable();
+
+        roles.insert(1, "admin");
+        members.insert("alice", 1);
+        members.insert("bob", 1);
+
+        ConvenoResponse aliceRole = members.getRole("alice");
+        ConvenoResponse count = members.count();
+
+        check(members.getRole("alice") == aliceRole && members.count() == count, "Responses are not cached");
+
+        // Writes of the joined table by the other repository evict the response.
+        roles.rename(1, "owner");
+
+        ConvenoResponse renamedRole = members.getRole("alice");
+        check(renamedRole != aliceRole && "owner".equals(title(renamedRole)), "Joined table write does not evict the response");
+        check(members.count() == count, "Response of the not written table is evicted");
+
+        // Rolled back transaction keeps the responses, committed one evicts them.
+        ConvenoTransactionResponse rolledBack = roles.renameOrInsert(1, "root");
+        check(!rolledBack.isCommitted() && members.getRole("alice") == renamedRole, "Rolled back transaction evicts the response");
+
+        check(roles.renameOrInsert(2, "guest").isCommitted(), "Transaction is not committed");
+        members.insert("carol", 2);
+
+        ConvenoResponse guestRole = members.getRole("carol");
+        check("guest".equals(title(guestRole)) && members.getRole("alice") != renamedRole, "Committed transaction does not evict the response");
+
+        members.delete("bob");
+        check(members.count().first().getNullableLong("members") == 2, "Delete does not evict the response");
+
+        // Writes outside of the router are evicted explicitly.
+        guestRole = members.getRole("carol");
+        convenoRouter.invalidateCaches("ROLES");
+
+        check(members.getRole("carol") != guestRole, "Table is not invalidated");
+
+        convenoRouter.shutdown();
+    }
+}
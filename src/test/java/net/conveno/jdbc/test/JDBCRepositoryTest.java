@@ -1,9 +1,16 @@
 package net.conveno.jdbc.test;
 
 import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoBatchResponse;
+import net.conveno.jdbc.response.ConvenoColumnarResponse;
 import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
 import net.conveno.jdbc.response.ConvenoTransactionResponse;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 @ConvenoTable(name = "users")
 @ConvenoRepository(jdbc = "jdbc:h2:mem:default",
         username = "root",
@@ -24,7 +31,7 @@ public interface JDBCRepositoryTest {
             "name varchar not null, " +
             "age int not null)")
     @ConvenoNonResponse
-    @ConvenoAsynchronous(onlySubmit = true)
+    @ConvenoAsynchronous
     void createTable();
 
     /**
@@ -48,6 +55,92 @@ public interface JDBCRepositoryTest {
     @ConvenoQuery(sql = "select * from ${table} limit ${limit}")
     ConvenoResponse getUsersList(@ConvenoParam("limit") int limit);
 
+    /**
+     * Search for all users entered the table
+     * with a list limit, without blocking the caller.
+     *
+     * @param limit - Users list limit.
+     * @return - A future of the response that contains
+     *          a list of users information labels.
+     */
+    @ConvenoQuery(sql = "select * from ${table} limit ${limit}")
+    CompletableFuture<ConvenoResponse> getUsersListAsync(@ConvenoParam("limit") int limit);
+
+    /**
+     * Search for the ages of all users entered the table,
+     * stored by columns without boxing.
+     *
+     * @return - A columnar response of users ids and ages.
+     */
+    @ConvenoQuery(sql = "select id, age from ${table}")
+    ConvenoColumnarResponse getUsersAges();
+
+    /**
+     * Aggregate the users ages, stored by columns
+     * with the decimal values unboxed.
+     *
+     * @return - A columnar response of the ages sum, the
+     *          average decimal age and the NULL cell.
+     */
+    @ConvenoQuery(sql = "select sum(age) as total, cast(avg(age) as decimal(10, 2)) as average, null as empty from ${table}")
+    ConvenoColumnarResponse getAgesSummary();
+
+    /**
+     * Search for all users entered the table, reading
+     * the lines lazily by 100 rows at once.
+     * <p>
+     * {@link ConvenoFetchSize}
+     *
+     * @return - A stream of users information labels,
+     *          which must be closed after the use.
+     */
+    @ConvenoFetchSize(100)
+    @ConvenoQuery(sql = "select * from ${table}")
+    Stream<ConvenoResponseLine> streamUsers();
+
+    /**
+     * Request to add a new user line to the table
+     * without waiting, coalesced with the other calls
+     * into the one batched statement under the single commit.
+     * <p>
+     * {@link ConvenoGroupCommit}
+     *
+     * @param userinfo - User information to add.
+     */
+    @ConvenoAsynchronous(onlySubmit = true)
+    @ConvenoGroupCommit(size = 256, deadlineMillis = 5)
+    @ConvenoNonResponse
+    @ConvenoQuery(sql = "insert into ${table} (name, age) values (${user}.$name, ${user}.$age)")
+    void insertLater(@ConvenoParam("user") Userinfo userinfo);
+
+    /**
+     * Request to add a new user line to the table,
+     * coalesced with the other calls into the one
+     * batched statement under the single commit.
+     * <p>
+     * {@link ConvenoGroupCommit}
+     *
+     * @param userinfo - User information to add.
+     * @return - A future completed, when the user line is written.
+     */
+    @ConvenoAsynchronous(onlySubmit = true)
+    @ConvenoGroupCommit(size = 256, deadlineMillis = 5)
+    @ConvenoNonResponse
+    @ConvenoQuery(sql = "insert into ${table} (name, age) values (${user}.$name, ${user}.$age)")
+    CompletableFuture<Void> insertLaterAwait(@ConvenoParam("user") Userinfo userinfo);
+
+    /**
+     * Request to add many users lines to the
+     * table with JDBC batches of 100 rows.
+     *
+     * @param users - Users information to add.
+     * @return - A response that contains update counts
+     *          and the generated keys of inserted users.
+     */
+    @ConvenoBatch(size = 100)
+    @ConvenoQuery(sql = "insert into ${table} (name, age) values (${users}.$name, ${users}.$age)")
+    ConvenoBatchResponse insertAll(@ConvenoParam("users") List<Userinfo> users);
+
     /**
      * Request to add a new user line to the
      * user table.
@@ -82,4 +175,32 @@ public interface JDBCRepositoryTest {
     })
     @ConvenoCaching(scope = CacheScope.PROTOTYPE)
     ConvenoTransactionResponse reinsert(@ConvenoParam("user") Userinfo userinfo);
+
+    /**
+     * Request to register a `sleep(millis)` function
+     * that blocks the calling database session.
+     */
+    @ConvenoQuery(sql = "create alias if not exists sleep for 'java.lang.Thread.sleep(long)'")
+    @ConvenoNonResponse
+    void createSleepFunction();
+
+    /**
+     * Request to hold a pooled connection for
+     * the given time.
+     *
+     * @param millis - Sleeping time in milliseconds.
+     * @return - A response that contains one empty line.
+     */
+    @ConvenoQuery(sql = "select sleep(${millis})")
+    ConvenoResponse sleep(@ConvenoParam("millis") long millis);
+
+    /**
+     * Request to hold a pooled connection for
+     * the given time, without blocking the caller.
+     *
+     * @param millis - Sleeping time in milliseconds.
+     * @return - A future of the response that contains one empty line.
+     */
+    @ConvenoQuery(sql = "select sleep(${millis})")
+    CompletableFuture<ConvenoResponse> sleepAsync(@ConvenoParam("millis") long millis);
 }
@@ -0,0 +1,129 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoCursor;
+import net.conveno.jdbc.response.ConvenoLob;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public class LobTest {
+
+    // LOBs of the file database are not held on the heap.
+    @ConvenoRepository(jdbc = "jdbc:h2:./target/lob;LAZY_QUERY_EXECUTION=TRUE",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface PayloadRepository {
+
+        @ConvenoQuery(sql = "drop table if exists payloads")
+        @ConvenoNonResponse
+        void dropTable();
+
+        @ConvenoQuery(sql = "create table payloads (id int not null primary key auto_increment, data blob, note clob)")
+        @ConvenoNonResponse
+        void createTable();
+
+        @ConvenoQuery(sql = "insert into payloads (data, note) values (${data}, ${note})")
+        @ConvenoNonResponse
+        void insert(@ConvenoParam("data") byte[] data, @ConvenoParam("note") String note);
+
+        /**
+         * Request to read the payloads lazily.
+         *
+         * @return - A cursor of the lines with the `data` and `note` LOB handles.
+         */
+        @ConvenoFetchSize(1)
+        @ConvenoQuery(sql = "select id, data, note from payloads order by id")
+        ConvenoCursor payloads();
+    }
+
+    private static final int PAYLOADS_COUNT = 24;
+    private static final int PAYLOAD_SIZE = 4 << 20;
+
+    /**
+     * Heap growth limit of the transfer, which is far below the size of all payloads.
+     */
+    private static final long MAX_HEAP_GROWTH = 4L * PAYLOAD_SIZE;
+
+    /**
+     * Channel, which counts and discards the written bytes.
+     */
+    private static class CountingChannel implements WritableByteChannel {
+
+        private long count;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int remaining = source.remaining();
+
+            source.position(source.limit());
+            count += remaining;
+
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        PayloadRepository repository = convenoRouter.getRepository(PayloadRepository.class);
+
+        repository.dropTable();
+        repository.createTable();
+
+        for (int index = 0; index < PAYLOADS_COUNT; index++) {
+            repository.insert(new byte[PAYLOAD_SIZE], "Payload #" + index);
+        }
+
+        long baseMemory = HeapUsage.liveMemory();
+
+        long startTime = System.currentTimeMillis();
+        long maxHeapGrowth = 0;
+
+        CountingChannel channel = new CountingChannel();
+
+        // Live heap grows by a few payloads at most, whatever the payloads count is.
+        try (ConvenoCursor cursor = repository.payloads()) {
+
+            while (cursor.hasNext()) {
+                ConvenoResponseLine responseLine = cursor.next();
+                ConvenoLob data = responseLine.getNullableLob("data");
+
+                if (!data.isBinary() || data.length() != PAYLOAD_SIZE || data.transferTo(channel) != PAYLOAD_SIZE) {
+                    throw new IllegalStateException("Payload is not transferred");
+                }
+
+                if (!responseLine.getNullableString("note").startsWith("Payload #")) {
+                    throw new IllegalStateException("Note is not read");
+                }
+
+                maxHeapGrowth = Math.max(maxHeapGrowth, HeapUsage.liveMemory() - baseMemory);
+            }
+        }
+
+        System.out.println("Transferred payloads: " + (channel.count >> 20) + "MB, max heap growth: " + (maxHeapGrowth >> 20) + "MB"
+                + ", time speed: " + (System.currentTimeMillis() - startTime) + "ms");
+
+        if (channel.count != (long) PAYLOADS_COUNT * PAYLOAD_SIZE) {
+            throw new IllegalStateException("Cursor lost the payloads");
+        }
+
+        if (maxHeapGrowth > MAX_HEAP_GROWTH) {
+            throw new IllegalStateException("Payloads are held on the heap");
+        }
+
+        repository.dropTable();
+        convenoRouter.shutdown();
+    }
+}
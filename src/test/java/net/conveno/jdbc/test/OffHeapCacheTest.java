@@ -0,0 +1,99 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+
+public class OffHeapCacheTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:offheap",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface RangeRepository {
+
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select x, 'Line' || x as name from system_range(1, ${count})")
+        ConvenoResponse heapRange(@ConvenoParam("count") long count);
+
+        /**
+         * Request to generate the numbers sequence, which lines
+         * are cached out of the heap up to 256MB.
+         */
+        @ConvenoCaching(ttlMillis = 60_000, offHeapBytes = 256 << 20)
+        @ConvenoQuery(sql = "select x, 'Line' || x as name from system_range(1, ${count})")
+        ConvenoResponse range(@ConvenoParam("count") long count);
+
+        @ConvenoCaching(ttlMillis = 60_000, offHeapBytes = 256 << 20, compress = true)
+        @ConvenoQuery(sql = "select x, 'Line' || x as name from system_range(1, ${count})")
+        ConvenoResponse compressedRange(@ConvenoParam("count") long count);
+
+        @ConvenoCaching(ttlMillis = 60_000, offHeapBytes = 1 << 20)
+        @ConvenoQuery(sql = "select x, 'Line' || x as name from system_range(1, ${count})")
+        ConvenoResponse limitedRange(@ConvenoParam("count") long count);
+    }
+
+    private static final int ROWS_COUNT = 1_000_000;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static void checkLines(ConvenoResponse response) {
+        check(response.size() == ROWS_COUNT && response.first().getNullableLong(1) == 1 && response.last().getNullableLong("x") == ROWS_COUNT
+                && ("Line" + 500_000).equals(response.get(499_999).getNullableString("name")), "Response lines are not decoded");
+
+        long sum = 0;
+
+        for (ConvenoResponseLine responseLine : response) {
+            sum += responseLine.getNullableLong(1);
+        }
+
+        check(sum == (long) ROWS_COUNT * (ROWS_COUNT + 1) / 2, "Response lost the lines");
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        RangeRepository repository = convenoRouter.getRepository(RangeRepository.class);
+
+        long baseMemory = HeapUsage.liveMemory();
+
+        ConvenoResponse heapResponse = repository.heapRange(ROWS_COUNT);
+        long heapMemory = HeapUsage.liveMemory() - baseMemory;
+
+        convenoRouter.invalidateCaches();
+        heapResponse = null;
+
+        baseMemory = HeapUsage.liveMemory();
+
+        ConvenoResponse response = repository.range(ROWS_COUNT);
+        long offHeapMemory = HeapUsage.liveMemory() - baseMemory;
+
+        System.out.println("Cached heap response: " + (heapMemory >> 20) + "MB of heap, off-heap response: "
+                + (offHeapMemory >> 20) + "MB of heap and " + (response.getOffHeapSize() >> 20) + "MB of direct memory");
+
+        check(response.isOffHeap() && repository.range(ROWS_COUNT) == response, "Response is not cached off the heap");
+        check(offHeapMemory < heapMemory / 4, "Off-heap response lines are kept on the heap");
+
+        checkLines(response);
+
+        // Deflated blocks are inflated on the access.
+        ConvenoResponse compressedResponse = repository.compressedRange(ROWS_COUNT);
+        System.out.println("Compressed response: " + (compressedResponse.getOffHeapSize() >> 20) + "MB of direct memory");
+
+        check(compressedResponse.getOffHeapSize() < response.getOffHeapSize(), "Response is not compressed");
+        checkLines(compressedResponse);
+
+        // Responses over the limit of the cache evict the least recently used ones.
+        ConvenoResponse first = repository.limitedRange(10_000);
+        ConvenoResponse second = repository.limitedRange(20_000);
+
+        check(repository.limitedRange(20_000) == second, "Limited response is not cached");
+        check(repository.limitedRange(10_000) != first, "Response over the limit is not evicted");
+
+        convenoRouter.shutdown();
+    }
+}
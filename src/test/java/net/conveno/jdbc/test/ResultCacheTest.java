@@ -0,0 +1,127 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+
+import java.util.concurrent.CompletableFuture;
+
+public class ResultCacheTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:cache",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    @ConvenoTable(name = "settings")
+    public interface SettingsRepository {
+
+        @ConvenoQuery(sql = "create table if not exists ${table} (name varchar(32) not null primary key, content varchar(32))")
+        @ConvenoNonResponse
+        void createTable();
+
+        @ConvenoQuery(sql = "merge into ${table} (name, content) values (${name}, ${value})")
+        @ConvenoNonResponse
+        void put(@ConvenoParam("name") String name, @ConvenoParam("value") String value);
+
+        /**
+         * Request to read the setting, which is cached for a minute
+         * and only two settings are cached at once.
+         *
+         * @param name - Setting name.
+         * @return - A shared response of the line with the `content`.
+         */
+        @ConvenoCaching(ttlMillis = 60_000, maxEntries = 2)
+        @ConvenoQuery(sql = "select content from ${table} where name = ${name}")
+        ConvenoResponse get(@ConvenoParam("name") String name);
+
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select X'0102' as bytes, timestamp '2024-01-01 00:00:00' as created")
+        ConvenoResponse getConstants();
+
+        @ConvenoCaching(ttlMillis = 50)
+        @ConvenoQuery(sql = "select content from ${table} where name = ${name}")
+        CompletableFuture<ConvenoResponse> getShortly(@ConvenoParam("name") String name);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static void checkUnsupported(Runnable change, String message) {
+        try {
+            change.run();
+        }
+        catch (UnsupportedOperationException exception) {
+            return;
+        }
+
+        throw new IllegalStateException(message);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        SettingsRepository repository = convenoRouter.getRepository(SettingsRepository.class);
+
+        repository.createTable();
+        repository.put("locale", "en");
+        repository.put("theme", "dark");
+        repository.put("timezone", "UTC");
+
+        // Hits return the same snapshot without the query.
+        ConvenoResponse locale = repository.get("locale");
+
+        check(locale.isFrozen() && repository.get("locale") == locale, "Response is not cached");
+        check("en".equals(repository.get("locale").first().getNullableString("content")), "Cached response is not read");
+
+        checkUnsupported(() -> locale.first().set("content", "fr"), "Cached line accepts the changes");
+
+        // Each reader of the cached line has its own sequential position.
+        ConvenoResponseLine firstReader = locale.first();
+        ConvenoResponseLine secondReader = locale.first();
+
+        check("en".equals(firstReader.nextString().orElse(null)), "Cached line is not read sequentially");
+        check("en".equals(secondReader.nextString().orElse(null)), "Cached line position is shared by the readers");
+        checkUnsupported(() -> locale.remove(0), "Cached response accepts the changes");
+        checkUnsupported(locale::clear, "Cached response is cleared");
+
+        // Mutable values of the cached line are copied for each reader.
+        ConvenoResponseLine constants = repository.getConstants().first();
+
+        constants.getNullableBlob(1)[0] = 9;
+        constants.getNullableTimestamp(2).setTime(0);
+
+        ConvenoResponseLine cachedConstants = repository.getConstants().first();
+
+        check(cachedConstants.getNullableBlob(1)[0] == 1 && cachedConstants.getNullableTimestamp(2).getTime() != 0,
+                "Cached line values are changed by the reader");
+
+        // `locale` is hit twice and is protected, `theme` is evicted by `timezone`.
+        ConvenoResponse theme = repository.get("theme");
+        repository.get("timezone");
+
+        check(repository.get("locale") == locale, "Frequently read response is evicted");
+        check(repository.get("theme") != theme, "Response read once is not evicted");
+
+        // Expired responses are read again.
+        ConvenoResponse shortly = repository.getShortly("locale").join();
+
+        check(repository.getShortly("locale").join() == shortly, "Future response is not cached");
+        Thread.sleep(100);
+
+        ConvenoResponse expired = repository.getShortly("locale").join();
+        check(expired != shortly && "en".equals(expired.first().getNullableString("content")), "Expired response is returned");
+
+        long startTime = System.nanoTime();
+
+        for (int index = 0; index < 1_000_000; index++) {
+            repository.get("locale");
+        }
+
+        System.out.println("1000000 cached reads time speed: " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        convenoRouter.shutdown();
+    }
+}
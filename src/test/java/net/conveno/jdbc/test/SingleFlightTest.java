@@ -0,0 +1,134 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+public class SingleFlightTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:flight",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface ReportRepository {
+
+        @ConvenoQuery(sql = "create alias if not exists slow_report for 'net.conveno.jdbc.test.SingleFlightTest.slowReport'")
+        @ConvenoNonResponse
+        void createAlias();
+
+        /**
+         * Request to build the report, which takes 200ms.
+         *
+         * @param id - Report id, negative to fail the report.
+         * @return - A response shared by the concurrent calls of the id.
+         */
+        @ConvenoSingleFlight
+        @ConvenoQuery(sql = "select slow_report(${id}) as report")
+        ConvenoResponse report(@ConvenoParam("id") int id);
+
+        @ConvenoQuery(sql = "select slow_report(${id}) as report")
+        ConvenoResponse uncoalescedReport(@ConvenoParam("id") int id);
+
+        @ConvenoSingleFlight
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select slow_report(${id}) as report")
+        CompletableFuture<ConvenoResponse> cachedReport(@ConvenoParam("id") int id);
+    }
+
+    private static final int CALLS_COUNT = 8;
+
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+    public static String slowReport(int id) throws InterruptedException {
+        EXECUTIONS.incrementAndGet();
+        Thread.sleep(200);
+
+        if (id < 0) {
+            throw new IllegalArgumentException("Report " + id + " is not found");
+        }
+
+        return "Report #" + id;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    /**
+     * Call the method by the threads at once.
+     *
+     * @return - Distinct responses of the calls, the failed calls are skipped.
+     */
+    private static Set<Object> callConcurrently(IntFunction<Object> call, int id) throws InterruptedException {
+        Set<Object> responses = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        EXECUTIONS.set(0);
+
+        for (int index = 0; index < CALLS_COUNT; index++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                    responses.add(call.apply(id));
+                }
+                catch (Exception ignored) {
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return responses;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        ReportRepository repository = convenoRouter.getRepository(ReportRepository.class);
+
+        repository.createAlias();
+
+        Set<Object> uncoalesced = callConcurrently(repository::uncoalescedReport, 1);
+        System.out.println("Uncoalesced executions: " + EXECUTIONS.get() + " of " + CALLS_COUNT + " calls");
+
+        check(uncoalesced.size() == CALLS_COUNT && EXECUTIONS.get() == CALLS_COUNT, "Calls are coalesced");
+
+        // Concurrent calls share the one execution and its frozen response.
+        Set<Object> coalesced = callConcurrently(repository::report, 1);
+        System.out.println("Coalesced executions: " + EXECUTIONS.get() + " of " + CALLS_COUNT + " calls");
+
+        check(EXECUTIONS.get() < CALLS_COUNT && coalesced.size() == EXECUTIONS.get(), "Calls are not coalesced");
+        check(coalesced.stream().allMatch(response -> ((ConvenoResponse) response).isFrozen()), "Shared response is not frozen");
+
+        // Error of the execution is thrown to every waiting call.
+        check(callConcurrently(repository::report, -1).isEmpty() && EXECUTIONS.get() < CALLS_COUNT, "Failed execution is not shared");
+
+        // Only one call of the cache miss reads the database.
+        Set<Object> cached = callConcurrently(id -> repository.cachedReport(id).join(), 2);
+        System.out.println("Cached executions: " + EXECUTIONS.get() + " of " + CALLS_COUNT + " calls");
+
+        check(cached.size() == 1 && EXECUTIONS.get() == 1, "Cache miss is read by the every call");
+        check(repository.cachedReport(2).join() == cached.iterator().next(), "Coalesced response is not cached");
+
+        convenoRouter.shutdown();
+    }
+}
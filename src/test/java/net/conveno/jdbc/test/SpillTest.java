@@ -0,0 +1,127 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+public class SpillTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:spill;LAZY_QUERY_EXECUTION=TRUE",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface RangeRepository {
+
+        /**
+         * Request to generate the numbers sequence and keep
+         * only 4MB of its lines on the heap.
+         *
+         * @param count - Numbers count.
+         * @return - A response of the lines with the `x` number and its `name`.
+         */
+        @ConvenoMemoryBudget(4 << 20)
+        @ConvenoQuery(sql = "select x, 'Line' || x as name from system_range(1, ${count})")
+        ConvenoResponse range(@ConvenoParam("count") long count);
+    }
+
+    private static final int ROWS_COUNT = 1_000_000;
+    private static final int DROPPED_ROWS_COUNT = 100_000;
+
+    private static final long CLEANUP_WAIT_MILLIS = 10_000;
+
+    /**
+     * Heap growth limit of the spilled response: 4MB of the heap lines and the rows offsets,
+     * the lines on the heap would take ~150MB.
+     */
+    private static final long MAX_HEAP_GROWTH = 32L << 20;
+
+    /**
+     * @return - An opened spill files count, or -1 if the descriptors are not listed by the system.
+     */
+    private static long openedSpillFiles() throws IOException {
+        Path descriptors = Paths.get("/proc/self/fd");
+
+        if (!Files.isDirectory(descriptors)) {
+            return -1;
+        }
+
+        try (Stream<Path> stream = Files.list(descriptors)) {
+            return stream.filter(descriptor -> {
+                try {
+                    return Files.readSymbolicLink(descriptor).toString().contains(".spill");
+                }
+                catch (IOException exception) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        RangeRepository repository = convenoRouter.getRepository(RangeRepository.class);
+
+        long baseMemory = HeapUsage.liveMemory();
+        long startTime = System.currentTimeMillis();
+
+        ConvenoResponse response = repository.range(ROWS_COUNT);
+        long heapGrowth = HeapUsage.liveMemory() - baseMemory;
+
+        if (!response.isSpilled() || response.size() != ROWS_COUNT) {
+            throw new IllegalStateException("Response is not spilled or lost the rows");
+        }
+
+        // Random access reads both the heap and spilled lines.
+        if (response.first().getNullableLong(1) != 1 || response.last().getNullableLong(1) != ROWS_COUNT
+                || !("Line" + 500_000).equals(response.get(499_999).getNullableString("name"))) {
+
+            throw new IllegalStateException("Response lines are not read back");
+        }
+
+        long sum = 0, count = 0;
+
+        for (ConvenoResponseLine responseLine : response) {
+            sum += responseLine.getNullableLong(1);
+            count++;
+        }
+
+        System.out.println("Spilled rows: " + count + ", sum: " + sum + ", heap growth: " + (heapGrowth >> 20) + "MB"
+                + ", time speed: " + (System.currentTimeMillis() - startTime) + "ms");
+
+        if (sum != (long) ROWS_COUNT * (ROWS_COUNT + 1) / 2) {
+            throw new IllegalStateException("Response lost the rows");
+        }
+
+        if (heapGrowth > MAX_HEAP_GROWTH) {
+            throw new IllegalStateException("Spilled lines are held on the heap");
+        }
+
+        response.close();
+
+        if (openedSpillFiles() > 0) {
+            throw new IllegalStateException("Closed response keeps the spill file");
+        }
+
+        // The spill file of the response dropped without the closing is deleted after the GC.
+        repository.range(DROPPED_ROWS_COUNT).get(DROPPED_ROWS_COUNT - 1);
+        long deadline = System.currentTimeMillis() + CLEANUP_WAIT_MILLIS;
+
+        while (openedSpillFiles() > 0 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        if (openedSpillFiles() > 0) {
+            throw new IllegalStateException("Dropped response keeps the spill file");
+        }
+
+        convenoRouter.shutdown();
+    }
+}
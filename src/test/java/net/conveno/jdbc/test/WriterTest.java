@@ -0,0 +1,66 @@
+package net.conveno.jdbc.test;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoCursor;
+import net.conveno.jdbc.response.ConvenoFormat;
+import net.conveno.jdbc.response.ConvenoResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class WriterTest {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:writer",
+            username = "root",
+            password = "${system.jdbc.h2.password}")
+    public interface SampleRepository {
+
+        String SAMPLES_SQL = "select cast(x as int) as id, x * 1000000000 as big, " +
+                "'Name \"' || x || '\", line' || char(10) || 'next \u2211 \uD83D\uDE00' as name, " +
+                "x / 3.0 as ratio, cast(x as double) / 7 as real_value, mod(x, 2) = 0 as even, " +
+                "timestamp '2024-01-01 00:00:00' + x * interval '1' second as created, " +
+                "case when mod(x, 3) = 0 then null else cast(x as int) end as nullable, " +
+                "stringtoutf8('bin' || x) as payload " +
+                "from system_range(1, ${count})";
+
+        @ConvenoQuery(sql = SAMPLES_SQL)
+        ConvenoResponse samples(@ConvenoParam("count") long count);
+
+        @ConvenoQuery(sql = SAMPLES_SQL)
+        ConvenoCursor samplesCursor(@ConvenoParam("count") long count);
+    }
+
+    private static final int ROWS_COUNT = 10_000;
+
+    public static void main(String[] args) {
+        System.setProperty("jdbc.h2.password", "password");
+
+        ConvenoRouter convenoRouter = ConvenoRouter.create();
+        SampleRepository repository = convenoRouter.getRepository(SampleRepository.class);
+
+        for (ConvenoFormat format : ConvenoFormat.values()) {
+            ByteArrayOutputStream responseOutput = new ByteArrayOutputStream();
+            ByteArrayOutputStream cursorOutput = new ByteArrayOutputStream();
+
+            long responseRows = repository.samples(ROWS_COUNT).writeTo(responseOutput, format);
+            long cursorRows = repository.samplesCursor(ROWS_COUNT).writeTo(cursorOutput, format);
+
+            String output = new String(cursorOutput.toByteArray(), StandardCharsets.UTF_8);
+            System.out.println(format + " (" + (cursorOutput.size() >> 10) + "KB):\n" + output.substring(0, output.indexOf("\n", 300) + 1));
+
+            // Direct rows must be encoded as the read lines.
+            if (!output.contains("line\nnext \u2211 \uD83D\uDE00") && !output.contains("line\\nnext \u2211 \uD83D\uDE00")) {
+                throw new IllegalStateException(format + " output is not encoded in UTF-8");
+            }
+
+            if (responseRows != ROWS_COUNT || cursorRows != ROWS_COUNT
+                    || !Arrays.equals(responseOutput.toByteArray(), cursorOutput.toByteArray())) {
+
+                throw new IllegalStateException(format + " output of the cursor differs from the response");
+            }
+        }
+
+        convenoRouter.shutdown();
+    }
+}
@@ -0,0 +1,66 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.ConvenoRouter;
+import net.conveno.jdbc.response.ConvenoBatchResponse;
+import net.conveno.jdbc.test.JDBCRepositoryTest;
+import net.conveno.jdbc.test.Userinfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class BatchInsertBenchmark {
+
+    private static final int ROWS_COUNT = 1000;
+
+    private JDBCRepositoryTest repository;
+
+    private List<Userinfo> users;
+
+    @Setup
+    public void setup() {
+        System.setProperty("jdbc.h2.password", "password");
+
+        repository = ConvenoRouter.create().getRepository(JDBCRepositoryTest.class);
+        repository.createTable();
+
+        users = new ArrayList<>();
+
+        for (int index = 0; index < ROWS_COUNT; index++) {
+            users.add(new Userinfo("User" + index, index));
+        }
+    }
+
+    @Benchmark
+    public int rowByRowInsert() {
+        int affectedRows = 0;
+
+        for (Userinfo userinfo : users) {
+            affectedRows += repository.insert(userinfo).getAffectedRows();
+        }
+
+        return affectedRows;
+    }
+
+    @Benchmark
+    public ConvenoBatchResponse batchInsert() {
+        return repository.insertAll(users);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BatchInsertBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,79 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.response.ConvenoColumnarResponse;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+import net.conveno.jdbc.response.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read and sum numeric columns of 100k rows, run with `-prof gc`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class ColumnarResponseBenchmark {
+
+    private static final String SQL = "select x as id, cast(x % 100 as int) as age, x / 3.0e0 as score " +
+            "from system_range(1, 100000)";
+
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:columnar", "root", "password");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public double rowLines() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            ConvenoResponse response = new ConvenoResponse(null, () -> Result.of(0, statement.executeQuery()));
+            double sum = 0;
+
+            for (ConvenoResponseLine responseLine : response) {
+                sum += responseLine.getNullableLong(1) + responseLine.getNullableInt(2) + responseLine.getNullableDouble(3);
+            }
+
+            return sum;
+        }
+    }
+
+    @Benchmark
+    public double columnar() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            ConvenoColumnarResponse response = new ConvenoColumnarResponse(() -> Result.of(0, statement.executeQuery()));
+            double sum = 0;
+
+            for (int row = 0; row < response.size(); row++) {
+                sum += response.getLongUnchecked(row, 1) + response.getIntUnchecked(row, 2) + response.getDoubleUnchecked(row, 3);
+            }
+
+            return sum;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ColumnarResponseBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,62 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.test.Userinfo;
+import net.conveno.jdbc.util.PreparedSql;
+import net.conveno.jdbc.util.SqlTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    private Userinfo userinfo;
+
+    private PreparedSql preparedSql;
+
+    @Setup
+    public void setup() {
+        userinfo = new Userinfo("David", 20);
+        preparedSql = SqlTemplate.compile("insert into users (name, age) values (${user}.$name, ${user}.$age)").toPreparedSql("users");
+    }
+
+    @Benchmark
+    public void reflectionScan(Blackhole blackhole) throws IllegalAccessException {
+        for (Field field : userinfo.getClass().getDeclaredFields()) {
+
+            if (field.getName().equals("name") || field.getName().equals("age")) {
+                field.setAccessible(true);
+                blackhole.consume(field.get(userinfo));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fieldAccessor(Blackhole blackhole) {
+        blackhole.consume(preparedSql.getFieldValue(0, userinfo));
+        blackhole.consume(preparedSql.getFieldValue(1, userinfo));
+    }
+
+    @Benchmark
+    public void directGetter(Blackhole blackhole) {
+        blackhole.consume(userinfo.getName());
+        blackhole.consume((Object) userinfo.getAge());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FieldAccessorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,75 @@
+package net.conveno.jdbc.test.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.conveno.jdbc.ConvenoRouter;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.Result;
+import net.conveno.jdbc.test.JDBCRepositoryTest;
+import net.conveno.jdbc.test.Userinfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class InvocationBenchmark {
+
+    private JDBCRepositoryTest repository;
+
+    private HikariDataSource dataSource;
+
+    @Setup
+    public void setup() {
+        System.setProperty("jdbc.h2.password", "password");
+
+        repository = ConvenoRouter.create().getRepository(JDBCRepositoryTest.class);
+        repository.createTable();
+
+        for (int index = 0; index < 10; index++) {
+            repository.insert(new Userinfo("User" + index, index));
+        }
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:default");
+        dataSource.setUsername("root");
+        dataSource.setPassword("password");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public ConvenoResponse repositoryCall() {
+        return repository.getUsersList(3);
+    }
+
+    @Benchmark
+    public ConvenoResponse handwrittenJdbc() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement("select * from users limit ?");
+            statement.closeOnCompletion();
+            statement.setInt(1, 3);
+
+            return new ConvenoResponse(null, () -> Result.of(0, statement.executeQuery()));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvocationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
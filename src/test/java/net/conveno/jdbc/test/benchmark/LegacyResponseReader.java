@@ -0,0 +1,63 @@
+package net.conveno.jdbc.test.benchmark;
+
+import lombok.experimental.UtilityClass;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Copy of the response reading before the shared schema:
+ * a LinkedHashMap line with its own labels map and
+ * nullable set for every row, kept for the benchmarks.
+ */
+@UtilityClass
+public class LegacyResponseReader {
+
+    public static class LegacyLine extends LinkedHashMap<Integer, Object> {
+
+        private Set<Integer> nullableIndexes;
+
+        private Map<String, Integer> indexByLabelsMap;
+    }
+
+    public List<LegacyLine> read(ResultSet executionResult)
+    throws SQLException {
+
+        ResultSetMetaData metadata = executionResult.getMetaData();
+        int columns = metadata.getColumnCount();
+
+        List<LegacyLine> lines = new ArrayList<>();
+
+        while (executionResult.next()) {
+            LegacyLine responseLine = new LegacyLine();
+
+            Map<String, Integer> indexByLabelsMap = new HashMap<>();
+            Set<Integer> nullableIndexes = new HashSet<>();
+
+            for (int columnIndex = 1; columnIndex <= columns; columnIndex++) {
+                String name = metadata.getColumnName(columnIndex);
+
+                indexByLabelsMap.put(name.toLowerCase(), columnIndex);
+
+                if (metadata.isNullable(columnIndex) == ResultSetMetaData.columnNullable) {
+                    nullableIndexes.add(columnIndex);
+                }
+
+                Object value = executionResult.getObject(columnIndex);
+
+                if (value != null) {
+                    responseLine.put(columnIndex, value);
+                }
+            }
+
+            responseLine.indexByLabelsMap = indexByLabelsMap;
+            responseLine.nullableIndexes = nullableIndexes;
+
+            lines.add(responseLine);
+        }
+
+        return lines;
+    }
+}
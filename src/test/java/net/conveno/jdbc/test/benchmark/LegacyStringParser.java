@@ -0,0 +1,74 @@
+package net.conveno.jdbc.test.benchmark;
+
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import net.conveno.jdbc.ConvenoParam;
+
+import java.lang.annotation.IncompleteAnnotationException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+
+/**
+ * The replace-based StringParser.parse implementation,
+ * kept as a baseline for benchmarks.
+ */
+@UtilityClass
+public class LegacyStringParser {
+
+    private final String QUESTION_CHAR = "?";
+    private final String STRING_PARAMETER_FORMAT = "'%s'";
+    private final String REPLACEMENT_PARAMETER_FORMAT = "${%s}";
+
+    private final String VARIABLE_SPLITTER = ".$";
+
+    private String toString(Object value) {
+        if (value == QUESTION_CHAR) {
+            return QUESTION_CHAR;
+        }
+
+        return value instanceof Number ? value.toString() : String.format(STRING_PARAMETER_FORMAT, value);
+    }
+
+    private String setTable(String table, String sql) {
+        if (table != null) {
+            return sql.replace(String.format(REPLACEMENT_PARAMETER_FORMAT, "table"), table);
+        }
+
+        return sql;
+    }
+
+    @SneakyThrows
+    private String setParam(String sql, String name, Object value) {
+        String basePlaceholder = String.format(REPLACEMENT_PARAMETER_FORMAT, name);
+
+        // check variables using contains.
+        if (sql.contains(basePlaceholder + VARIABLE_SPLITTER)) {
+
+            for (Field field : value.getClass().getDeclaredFields()) {
+                String placeholder = basePlaceholder + VARIABLE_SPLITTER + field.getName();
+
+                field.setAccessible(true);
+                sql = sql.replace(placeholder, toString(field.get(value)));
+            }
+        }
+
+        return sql.replace(basePlaceholder, toString(value));
+    }
+
+    public String parse(String table, String sql, Parameter[] parameters, Object[] initargs) {
+        Class<ConvenoParam> convenoParamType = ConvenoParam.class;
+
+        for (int idx = 0; idx < parameters.length; idx++) {
+            Parameter parameter = parameters[idx];
+
+            if (!parameter.isAnnotationPresent(convenoParamType)) {
+                throw new IncompleteAnnotationException(convenoParamType, parameter.getName());
+            }
+
+            String name = parameter.getDeclaredAnnotation(convenoParamType).value();
+            sql = setParam(sql, name, initargs[idx]);
+        }
+
+        return setTable(table, sql);
+    }
+}
@@ -0,0 +1,80 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.response.ConvenoParallelism;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseAdapter;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+import net.conveno.jdbc.response.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping time of the adapter, which does real work per line,
+ * should scale with the cores count of the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class ParallelMappingBenchmark {
+
+    private static final String SQL = "select x as id, '{\"name\":\"User' || x || '\",\"tags\":[\"a\",\"b\",\"c\"]}' as payload " +
+            "from system_range(1, 100000)";
+
+    public static class PayloadAdapter implements ConvenoResponseAdapter<String[]> {
+
+        @Override
+        public String[] convert(ConvenoResponseLine responseLine) {
+            String payload = responseLine.getNullableString("payload");
+            return payload.replaceAll("[{}\\[\\]\"]", "").split("[,:]");
+        }
+    }
+
+    private ConvenoResponse response;
+
+    @Setup
+    public void setup() throws Exception {
+        Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:parallel", "root", "password");
+             PreparedStatement statement = connection.prepareStatement(SQL)) {
+
+            response = new ConvenoResponse((Unsafe) theUnsafe.get(null), () -> Result.of(0, statement.executeQuery()));
+        }
+    }
+
+    @Benchmark
+    public List<String[]> sequential() {
+        return response.toList(PayloadAdapter.class);
+    }
+
+    @Benchmark
+    public List<String[]> parallelOrdered() {
+        return response.toList(PayloadAdapter.class, ConvenoParallelism.of(1000, true));
+    }
+
+    @Benchmark
+    public List<String[]> parallelUnordered() {
+        return response.toList(PayloadAdapter.class, ConvenoParallelism.of(1000, false));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParallelMappingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
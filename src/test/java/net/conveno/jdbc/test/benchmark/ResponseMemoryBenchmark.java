@@ -0,0 +1,65 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with `-prof gc` to compare the allocated bytes per
+ * response (`gc.alloc.rate.norm`) of both representations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class ResponseMemoryBenchmark {
+
+    private static final String SQL = "select x as id, 'User' || x as name, x % 100 as age, " +
+            "cast(null as varchar) as email from system_range(1, 10000)";
+
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:memory", "root", "password");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<LegacyResponseReader.LegacyLine> legacyLines() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            return LegacyResponseReader.read(statement.executeQuery());
+        }
+    }
+
+    @Benchmark
+    public ConvenoResponse sharedSchemaLines() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            return new ConvenoResponse(null, () -> Result.of(0, statement.executeQuery()));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseMemoryBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
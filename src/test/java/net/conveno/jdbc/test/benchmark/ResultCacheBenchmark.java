@@ -0,0 +1,113 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.*;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseLine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hot lookup of the permission, which is read from the
+ * database, from the responses cache and from the off-heap cache,
+ * which decodes the lines on each scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class ResultCacheBenchmark {
+
+    @ConvenoRepository(jdbc = "jdbc:h2:mem:permissions",
+            username = "root",
+            password = "password")
+    public interface PermissionRepository {
+
+        @ConvenoQuery(sql = "create table permissions (role_id int not null, permission varchar(64) not null)")
+        @ConvenoNonResponse
+        void createTable();
+
+        @ConvenoQuery(sql = "insert into permissions (role_id, permission) select cast(x % 16 as int), 'permission.' || x from system_range(1, 1024)")
+        @ConvenoNonResponse
+        void fill();
+
+        @ConvenoQuery(sql = "select permission from permissions where role_id = ${role}")
+        ConvenoResponse permissions(@ConvenoParam("role") int roleId);
+
+        @ConvenoCaching(ttlMillis = 60_000)
+        @ConvenoQuery(sql = "select permission from permissions where role_id = ${role}")
+        ConvenoResponse cachedPermissions(@ConvenoParam("role") int roleId);
+
+        @ConvenoCaching(ttlMillis = 60_000, offHeapBytes = 1 << 20)
+        @ConvenoQuery(sql = "select permission from permissions where role_id = ${role}")
+        ConvenoResponse offHeapPermissions(@ConvenoParam("role") int roleId);
+
+        @ConvenoCaching(ttlMillis = 60_000, offHeapBytes = 1 << 20, compress = true)
+        @ConvenoQuery(sql = "select permission from permissions where role_id = ${role}")
+        ConvenoResponse compressedPermissions(@ConvenoParam("role") int roleId);
+    }
+
+    private ConvenoRouter router;
+    private PermissionRepository repository;
+
+    @Setup
+    public void setup() {
+        router = ConvenoRouter.create();
+        repository = router.getRepository(PermissionRepository.class);
+
+        repository.createTable();
+        repository.fill();
+    }
+
+    @TearDown
+    public void tearDown() {
+        router.shutdown();
+    }
+
+    @Benchmark
+    public ConvenoResponse databaseRead() {
+        return repository.permissions(7);
+    }
+
+    @Benchmark
+    public ConvenoResponse cachedRead() {
+        return repository.cachedPermissions(7);
+    }
+
+    private static int scan(ConvenoResponse response) {
+        int length = 0;
+
+        for (ConvenoResponseLine responseLine : response) {
+            length += responseLine.getNullableString(1).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int cachedScan() {
+        return scan(repository.cachedPermissions(7));
+    }
+
+    @Benchmark
+    public int offHeapScan() {
+        return scan(repository.offHeapPermissions(7));
+    }
+
+    @Benchmark
+    public int compressedScan() {
+        return scan(repository.compressedPermissions(7));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResultCacheBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,86 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.ConvenoResponseAdapter;
+import net.conveno.jdbc.response.Result;
+import net.conveno.jdbc.test.Userinfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Run with `-prof gc` to compare the allocated bytes per mapped response
+ * (`gc.alloc.rate.norm`) of the per-line adapters and the row mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class RowMapperBenchmark {
+
+    private static final String SQL = "select cast(x as int) as id, 'User' || x as name, " +
+            "cast(x % 100 as int) as age from system_range(1, 10000)";
+
+    private Unsafe unsafe;
+    private ConvenoResponse response;
+
+    @Setup
+    public void setup() throws Exception {
+        Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+
+        unsafe = (Unsafe) theUnsafe.get(null);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:mapper", "root", "password");
+             PreparedStatement statement = connection.prepareStatement(SQL)) {
+
+            response = new ConvenoResponse(unsafe, () -> Result.of(0, statement.executeQuery()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public List<Userinfo> adapterPerLine() throws SQLException {
+        return response.stream()
+                .map(responseLine -> {
+                    try {
+                        return ((ConvenoResponseAdapter<Userinfo>) unsafe.allocateInstance(Userinfo.class)).convert(responseLine);
+                    }
+                    catch (InstantiationException exception) {
+                        throw new RuntimeException(exception);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Userinfo> reusedAdapter() {
+        return response.toList(Userinfo.class);
+    }
+
+    @Benchmark
+    public List<Userinfo> rowMapper() {
+        return response.mapList(Userinfo.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RowMapperBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
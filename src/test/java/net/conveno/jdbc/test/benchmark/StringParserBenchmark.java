@@ -0,0 +1,91 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.ConvenoQuery;
+import net.conveno.jdbc.test.JDBCRepositoryTest;
+import net.conveno.jdbc.test.Userinfo;
+import net.conveno.jdbc.util.PreparedSql;
+import net.conveno.jdbc.util.SqlTemplate;
+import net.conveno.jdbc.util.StatementBinder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the legacy per-call SQL rendering of the insert(Userinfo) query with the
+ * code, which runs now: the template compiled to the `?` SQL and the per-call binding
+ * of the arguments to the prepared statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringParserBenchmark {
+
+    private static final String TABLE = "users";
+
+    private String sql;
+    private Parameter[] parameters;
+    private Object[] initargs;
+
+    private Connection connection;
+    private PreparedStatement statement;
+
+    private PreparedSql preparedSql;
+
+    // both placeholders are the fields of the first argument.
+    private int[] argumentIndexes = {0, 0};
+
+    @Setup
+    public void setup() throws NoSuchMethodException, SQLException {
+        Method method = JDBCRepositoryTest.class.getMethod("insert", Userinfo.class);
+
+        sql = method.getDeclaredAnnotation(ConvenoQuery.class).sql();
+        parameters = method.getParameters();
+        initargs = new Object[]{new Userinfo("David", 20)};
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:parser");
+        connection.createStatement().execute("create table users (id int primary key auto_increment, name varchar, age int)");
+
+        preparedSql = SqlTemplate.of(sql).toPreparedSql(TABLE);
+        statement = connection.prepareStatement(preparedSql.getSql());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public String legacyParse() {
+        return LegacyStringParser.parse(TABLE, sql, parameters, initargs);
+    }
+
+    @Benchmark
+    public PreparedSql templateCompile() {
+        return SqlTemplate.of(sql).toPreparedSql(TABLE);
+    }
+
+    @Benchmark
+    public PreparedStatement preparedBind() throws SQLException {
+        StatementBinder.bind(statement, preparedSql, argumentIndexes, initargs);
+        return statement;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StringParserBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
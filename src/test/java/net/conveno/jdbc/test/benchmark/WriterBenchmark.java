@@ -0,0 +1,90 @@
+package net.conveno.jdbc.test.benchmark;
+
+import net.conveno.jdbc.response.ConvenoCursor;
+import net.conveno.jdbc.response.ConvenoFormat;
+import net.conveno.jdbc.response.ConvenoResponse;
+import net.conveno.jdbc.response.Result;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with `-prof gc` to compare the allocated bytes per written
+ * response (`gc.alloc.rate.norm`) of the read lines and direct rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class WriterBenchmark {
+
+    private static final String SQL = "select cast(x as int) as id, 'User' || x as name, cast(mod(x, 100) as int) as age, " +
+            "cast(null as varchar) as email from system_range(1, 10000)";
+
+    @Param({"JSON_LINES", "CSV"})
+    private ConvenoFormat format;
+
+    private Connection connection;
+
+    /**
+     * Connection of the cursor, which is not closed by the cursor.
+     */
+    private Connection cursorConnection;
+
+    private final OutputStream discard = new OutputStream() {
+
+        @Override
+        public void write(int value) {
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+        }
+    };
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:writer", "root", "password");
+
+        cursorConnection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> method.getName().equals("close") ? null : method.invoke(connection, args));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long readLines() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+            return new ConvenoResponse(null, () -> Result.of(0, statement.executeQuery())).writeTo(discard, format);
+        }
+    }
+
+    @Benchmark
+    public long directRows() throws SQLException {
+        PreparedStatement statement = cursorConnection.prepareStatement(SQL);
+
+        return new ConvenoCursor(null, cursorConnection, statement, statement.executeQuery()).writeTo(discard, format);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WriterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}